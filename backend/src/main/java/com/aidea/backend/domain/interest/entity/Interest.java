@@ -27,6 +27,10 @@ public class Interest {
   @Column(length = 50)
   private String category;
 
+  // 관심사 비트셋의 비트 위치 (처음 적재할 때 한 번 정하고 바꾸지 않음, 삭제된 관심사의 비트는 재사용하지 않음)
+  @Column(name = "mask_bit", unique = true)
+  private Integer maskBit;
+
   @CreatedDate
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
@@ -40,4 +44,11 @@ public class Interest {
     this.interestName = interestName;
     this.category = category;
   }
+
+  /**
+   * 비트 위치 지정 (비트가 없는 관심사에만 호출)
+   */
+  public void assignMaskBit(int maskBit) {
+    this.maskBit = maskBit;
+  }
 }
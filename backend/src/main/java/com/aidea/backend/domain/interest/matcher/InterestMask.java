@@ -0,0 +1,88 @@
+package com.aidea.backend.domain.interest.matcher;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 관심사 비트셋 매핑
+ * - 관심사마다 저장된 비트 위치(interest.mask_bit)를 그대로 씁니다 - 관심사를 삭제/추가해도 다른 관심사의 비트는 바뀌지 않습니다
+ * - 비트 위치는 0 ~ 63이어야 하며 겹칠 수 없습니다 (위반 시 생성 단계에서 예외)
+ * - 매핑에 없는 ID(카탈로그 적재 이후 추가된 관심사 등)는 비트 없이 무시하고 로그만 남깁니다
+ */
+@Slf4j
+public final class InterestMask {
+
+  public static final int MAX_INTERESTS = Long.SIZE;
+
+  private static final InterestMask EMPTY = new InterestMask(Map.of());
+
+  private final Map<Long, Integer> bits; // 관심사 ID → 비트 위치
+
+  private InterestMask(Map<Long, Integer> bits) {
+    this.bits = bits;
+  }
+
+  public static InterestMask empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 관심사 ID → 비트 위치로 매핑 생성
+   */
+  public static InterestMask of(Map<Long, Integer> bitsById) {
+    long used = 0L;
+    for (Map.Entry<Long, Integer> entry : bitsById.entrySet()) {
+      int bit = entry.getValue();
+      if (bit < 0 || bit >= MAX_INTERESTS) {
+        throw new IllegalStateException(
+            "관심사 비트 위치는 0 ~ " + (MAX_INTERESTS - 1) + "이어야 합니다: id=" + entry.getKey() + ", bit=" + bit);
+      }
+      if ((used & (1L << bit)) != 0L) {
+        throw new IllegalStateException("관심사 비트 위치가 겹칩니다: id=" + entry.getKey() + ", bit=" + bit);
+      }
+      used |= 1L << bit;
+    }
+    return new InterestMask(Map.copyOf(bitsById));
+  }
+
+  /**
+   * 관심사 하나의 비트 (매핑에 없으면 0)
+   */
+  public long bit(long interestId) {
+    Integer bit = bits.get(interestId);
+    if (bit == null) {
+      log.warn("관심사 비트 매핑에 없는 관심사를 무시합니다: id={}", interestId);
+      return 0L;
+    }
+    return 1L << bit;
+  }
+
+  public long maskOf(long[] interestIds) {
+    long mask = 0L;
+    for (long interestId : interestIds) {
+      mask |= bit(interestId);
+    }
+    return mask;
+  }
+
+  public long maskOf(Collection<Long> interestIds) {
+    long mask = 0L;
+    for (Long interestId : interestIds) {
+      mask |= bit(interestId);
+    }
+    return mask;
+  }
+
+  public int size() {
+    return bits.size();
+  }
+
+  /**
+   * 매핑 버전 (같은 매핑이면 인스턴스가 달라도 같은 값 - 비트셋 캐시 키 구분용)
+   */
+  public int version() {
+    return bits.hashCode();
+  }
+}
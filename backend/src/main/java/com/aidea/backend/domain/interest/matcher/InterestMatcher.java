@@ -0,0 +1,142 @@
+package com.aidea.backend.domain.interest.matcher;
+
+import com.aidea.backend.domain.interest.entity.Interest;
+import com.aidea.backend.domain.interest.repository.InterestRepository;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모임 ↔ 관심사 태깅
+ * - 관심사 카탈로그 전체로 InterestNameAutomaton과 카테고리별 관심사 비트셋을 만들어 둡니다
+ * - 비트 위치는 관심사마다 저장된 mask_bit를 쓰므로 관심사를 삭제해도 다른 관심사의 비트는 바뀌지 않습니다
+ * - 모임의 관심사 비트셋 = 모임 카테고리에 속한 관심사 | 제목/설명에 이름이 포함된 관심사
+ * - 모임 생성/수정 시 한 번 계산해 meeting.interest_mask에 저장하고, 추천은 비트 AND로 점수를 매깁니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestMatcher {
+
+  // 카탈로그 적재 순서: 오토마타 생성 → 모임 비트셋 백필 → 추천 후보 인덱스 적재
+  public static final int LOAD_ORDER = 0;
+
+  private final InterestRepository interestRepository;
+  private final MeetingRepository meetingRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private volatile InterestNameAutomaton automaton = InterestNameAutomaton.build(Map.of());
+  private volatile InterestMask interestMask = InterestMask.empty();
+  private volatile long[] categoryMasks = new long[MeetingCategory.values().length]; // MeetingCategory.ordinal() 기준
+
+  /**
+   * 관심사 초기 데이터 적재(CommandLineRunner) 이후 비트 매핑/오토마타/카테고리 비트셋 생성
+   * - 비트 위치가 없는 관심사에 새 비트를 부여합니다 (관심사가 64개를 넘으면 기동을 실패시킵니다)
+   */
+  @Order(LOAD_ORDER)
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    List<Interest> interests = transactionTemplate.execute(status -> assignMaskBits(interestRepository.findAll()));
+
+    Map<Long, Integer> bitsById = new HashMap<>();
+    Map<Long, String> namesById = new HashMap<>();
+    for (Interest interest : interests) {
+      bitsById.put(interest.getInterestId(), interest.getMaskBit());
+      namesById.put(interest.getInterestId(), interest.getInterestName());
+    }
+    InterestMask mask = InterestMask.of(bitsById);
+
+    long[] masks = new long[MeetingCategory.values().length];
+    for (Interest interest : interests) {
+      MeetingCategory category = MeetingCategory.fromDisplayName(interest.getCategory());
+      if (category != null) {
+        masks[category.ordinal()] |= mask.bit(interest.getInterestId());
+      }
+    }
+    interestMask = mask;
+    automaton = InterestNameAutomaton.build(namesById);
+    categoryMasks = masks;
+
+    log.info("관심사 매칭 오토마타 생성 완료: 관심사 {}개", namesById.size());
+  }
+
+  /**
+   * 비트 위치가 없는 관심사에 ID 순으로 비어 있는 가장 낮은 비트를 부여 (트랜잭션 안에서 호출, 변경 감지로 저장)
+   * - 이미 비트가 있던 카탈로그에 관심사가 추가되면 삭제된 관심사의 비트를 재사용할 수 있으므로,
+   *   저장된 모임 비트셋을 비워 백필(LOAD_ORDER + 1)이 새 매핑으로 다시 태깅하게 합니다
+   */
+  private List<Interest> assignMaskBits(List<Interest> interests) {
+    long used = 0L;
+    for (Interest interest : interests) {
+      if (interest.getMaskBit() != null) {
+        used |= 1L << interest.getMaskBit();
+      }
+    }
+    List<Interest> unassigned = interests.stream()
+        .filter(interest -> interest.getMaskBit() == null)
+        .sorted(Comparator.comparing(Interest::getInterestId))
+        .toList();
+    if (unassigned.isEmpty()) {
+      return interests;
+    }
+
+    boolean catalogChanged = used != 0L;
+    for (Interest interest : unassigned) {
+      if (used == -1L) {
+        throw new IllegalStateException(
+            "관심사 비트셋은 " + InterestMask.MAX_INTERESTS + "개까지 표현할 수 있습니다: id=" + interest.getInterestId());
+      }
+      int bit = Long.numberOfTrailingZeros(~used);
+      interest.assignMaskBit(bit);
+      used |= 1L << bit;
+    }
+    if (catalogChanged) {
+      int cleared = meetingRepository.clearInterestMasks();
+      log.info("관심사 카탈로그 변경으로 모임 비트셋 재계산 예약: 관심사 {}개 추가, 모임 {}개", unassigned.size(), cleared);
+    } else {
+      log.info("관심사 비트 위치 부여: {}개", unassigned.size());
+    }
+    return interests;
+  }
+
+  /**
+   * 관심사 ID 목록의 비트셋 (사용자 관심사용)
+   */
+  public long mask(Collection<Long> interestIds) {
+    return interestMask.maskOf(interestIds);
+  }
+
+  /**
+   * 현재 비트 매핑 버전 (관심사 비트가 새로 부여되면 바뀜)
+   */
+  public int maskVersion() {
+    return interestMask.version();
+  }
+
+  /**
+   * 모임 카테고리에 속한 관심사 비트셋
+   */
+  public long categoryMask(MeetingCategory category) {
+    return categoryMasks[category.ordinal()];
+  }
+
+  /**
+   * 모임의 관심사 비트셋 계산 (카테고리 매핑 + 제목/설명 매칭)
+   */
+  public long tag(MeetingCategory category, String title, String description) {
+    long mask = category != null ? categoryMask(category) : 0L;
+    return mask | interestMask.maskOf(automaton.match(title, description));
+  }
+}
@@ -0,0 +1,167 @@
+package com.aidea.backend.domain.interest.matcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 관심사 이름 다중 패턴 매칭 오토마타 (Aho-Corasick)
+ * - 관심사 이름 전체로 한 번 만들어 두고, 텍스트를 한 번 훑어 포함된 관심사 ID를 모두 찾습니다
+ * - 매칭 비용은 텍스트 길이에 비례하며 관심사 수와 무관합니다
+ * - String.contains와 같이 대소문자를 구분합니다
+ * - 생성 후 불변이므로 여러 스레드에서 동시에 사용할 수 있습니다
+ */
+public final class InterestNameAutomaton {
+
+  private static final long[] NO_MATCH = new long[0];
+
+  // 노드별 전이: 정렬된 문자 배열 + 대상 노드 (이진 탐색)
+  private final char[][] edgeChars;
+  private final int[][] edgeTargets;
+  private final int[] failure;
+  private final long[][] outputs; // 노드에서 끝나는 관심사 ID (실패 링크의 출력 포함, 정렬됨)
+
+  private InterestNameAutomaton(char[][] edgeChars, int[][] edgeTargets, int[] failure, long[][] outputs) {
+    this.edgeChars = edgeChars;
+    this.edgeTargets = edgeTargets;
+    this.failure = failure;
+    this.outputs = outputs;
+  }
+
+  /**
+   * 관심사 ID → 이름 목록으로 오토마타를 생성합니다. 빈 이름은 무시합니다.
+   */
+  public static InterestNameAutomaton build(Map<Long, String> namesById) {
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    List<List<Long>> terminal = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    terminal.add(new ArrayList<>());
+
+    for (Map.Entry<Long, String> entry : namesById.entrySet()) {
+      String name = entry.getValue();
+      if (name == null || name.isEmpty()) {
+        continue;
+      }
+      int node = 0;
+      for (int i = 0; i < name.length(); i++) {
+        Integer next = trie.get(node).get(name.charAt(i));
+        if (next == null) {
+          next = trie.size();
+          trie.add(new TreeMap<>());
+          terminal.add(new ArrayList<>());
+          trie.get(node).put(name.charAt(i), next);
+        }
+        node = next;
+      }
+      terminal.get(node).add(entry.getKey());
+    }
+
+    int size = trie.size();
+    char[][] edgeChars = new char[size][];
+    int[][] edgeTargets = new int[size][];
+    for (int node = 0; node < size; node++) {
+      TreeMap<Character, Integer> edges = trie.get(node);
+      edgeChars[node] = new char[edges.size()];
+      edgeTargets[node] = new int[edges.size()];
+      int i = 0;
+      for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+        edgeChars[node][i] = edge.getKey();
+        edgeTargets[node][i] = edge.getValue();
+        i++;
+      }
+    }
+
+    // BFS로 실패 링크와 출력 집합 계산 (부모가 먼저 처리되므로 실패 노드의 출력은 이미 완성됨)
+    int[] failure = new int[size];
+    long[][] outputs = new long[size][];
+    outputs[0] = NO_MATCH;
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int child : edgeTargets[0]) {
+      failure[child] = 0;
+      outputs[child] = toSortedArray(terminal.get(child), NO_MATCH);
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int node = queue.poll();
+      for (int i = 0; i < edgeChars[node].length; i++) {
+        char c = edgeChars[node][i];
+        int child = edgeTargets[node][i];
+
+        int fallback = failure[node];
+        int target;
+        while ((target = transition(edgeChars, edgeTargets, fallback, c)) < 0 && fallback != 0) {
+          fallback = failure[fallback];
+        }
+        failure[child] = target >= 0 ? target : 0;
+        outputs[child] = toSortedArray(terminal.get(child), outputs[failure[child]]);
+        queue.add(child);
+      }
+    }
+
+    return new InterestNameAutomaton(edgeChars, edgeTargets, failure, outputs);
+  }
+
+  /**
+   * 텍스트들에 포함된 관심사 ID (중복 제거, 오름차순)
+   */
+  public long[] match(String... texts) {
+    long[] found = NO_MATCH;
+    int count = 0;
+
+    for (String text : texts) {
+      if (text == null) {
+        continue;
+      }
+      int node = 0;
+      for (int i = 0; i < text.length(); i++) {
+        char c = text.charAt(i);
+        int next;
+        while ((next = transition(edgeChars, edgeTargets, node, c)) < 0 && node != 0) {
+          node = failure[node];
+        }
+        node = next >= 0 ? next : 0;
+
+        for (long interestId : outputs[node]) {
+          if (count == found.length) {
+            found = Arrays.copyOf(found, Math.max(4, count * 2));
+          }
+          found[count++] = interestId;
+        }
+      }
+    }
+
+    if (count == 0) {
+      return NO_MATCH;
+    }
+    Arrays.sort(found, 0, count);
+    int distinct = 1;
+    for (int i = 1; i < count; i++) {
+      if (found[i] != found[distinct - 1]) {
+        found[distinct++] = found[i];
+      }
+    }
+    return Arrays.copyOf(found, distinct);
+  }
+
+  private static int transition(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+    int index = Arrays.binarySearch(edgeChars[node], c);
+    return index >= 0 ? edgeTargets[node][index] : -1;
+  }
+
+  private static long[] toSortedArray(List<Long> own, long[] inherited) {
+    if (own.isEmpty()) {
+      return inherited;
+    }
+    long[] result = new long[own.size() + inherited.length];
+    for (int i = 0; i < own.size(); i++) {
+      result[i] = own.get(i);
+    }
+    System.arraycopy(inherited, 0, result, own.size(), inherited.length);
+    Arrays.sort(result);
+    return result;
+  }
+}
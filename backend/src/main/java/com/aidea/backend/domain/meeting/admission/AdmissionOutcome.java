@@ -0,0 +1,36 @@
+package com.aidea.backend.domain.meeting.admission;
+
+import lombok.Getter;
+
+/**
+ * 입장 티켓 처리 결과 (트랜잭션 커밋 후 티켓에 반영)
+ */
+@Getter
+public final class AdmissionOutcome {
+
+    private final AdmissionStatus status;
+    private final Long memberId;
+    private final String message;
+
+    private AdmissionOutcome(AdmissionStatus status, Long memberId, String message) {
+        this.status = status;
+        this.memberId = memberId;
+        this.message = message;
+    }
+
+    public static AdmissionOutcome approved(Long memberId) {
+        return new AdmissionOutcome(AdmissionStatus.APPROVED, memberId, null);
+    }
+
+    public static AdmissionOutcome pending(Long memberId) {
+        return new AdmissionOutcome(AdmissionStatus.PENDING, memberId, null);
+    }
+
+    public static AdmissionOutcome waitlisted(Long memberId) {
+        return new AdmissionOutcome(AdmissionStatus.WAITLISTED, memberId, null);
+    }
+
+    public static AdmissionOutcome rejected(String message) {
+        return new AdmissionOutcome(AdmissionStatus.REJECTED, null, message);
+    }
+}
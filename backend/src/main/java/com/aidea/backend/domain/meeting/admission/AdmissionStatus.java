@@ -0,0 +1,12 @@
+package com.aidea.backend.domain.meeting.admission;
+
+/**
+ * 입장 티켓 상태
+ */
+public enum AdmissionStatus {
+    QUEUED, // 대기열에서 처리 대기 중
+    APPROVED, // 참가 완료 (자동 승인)
+    PENDING, // 참가 신청 완료 (HOST 승인 대기)
+    WAITLISTED, // 정원 초과로 대기열 등록 (자리가 나면 자동 승격)
+    REJECTED // 참가 불가 (중복 신청 등)
+}
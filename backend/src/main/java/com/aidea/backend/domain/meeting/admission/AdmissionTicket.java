@@ -0,0 +1,43 @@
+package com.aidea.backend.domain.meeting.admission;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 입장 티켓
+ * - 인기 모임 참가 신청 1건을 나타내며, 대기열 소비자가 처리한 뒤 결과를 기록합니다
+ * - 결과 필드는 소비자 스레드가 쓰고 조회 요청 스레드가 읽으므로 volatile로 둡니다
+ */
+@Getter
+public class AdmissionTicket {
+
+    private final String ticketId;
+    private final Long meetingId;
+    private final Long userId;
+    private final LocalDateTime requestedAt;
+
+    private volatile AdmissionStatus status = AdmissionStatus.QUEUED;
+    private volatile Long memberId;
+    private volatile String message;
+    private volatile LocalDateTime completedAt;
+
+    AdmissionTicket(Long meetingId, Long userId) {
+        this.ticketId = UUID.randomUUID().toString();
+        this.meetingId = meetingId;
+        this.userId = userId;
+        this.requestedAt = LocalDateTime.now();
+    }
+
+    void complete(AdmissionStatus status, Long memberId, String message) {
+        this.memberId = memberId;
+        this.message = message;
+        this.completedAt = LocalDateTime.now();
+        this.status = status; // 마지막에 기록 (조회 시 status가 바뀌었으면 나머지 필드도 보임)
+    }
+
+    public boolean isCompleted() {
+        return this.status != AdmissionStatus.QUEUED;
+    }
+}
@@ -0,0 +1,133 @@
+package com.aidea.backend.domain.meeting.admission;
+
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.entity.MeetingMember;
+import com.aidea.backend.domain.meeting.entity.enums.MemberStatus;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.meeting.repository.MeetingMemberRepository;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import com.aidea.backend.domain.user.entity.User;
+import com.aidea.backend.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 입장 대기열 배치 처리
+ * - 한 모임의 티켓 묶음을 하나의 트랜잭션으로 처리합니다
+ * - 모임 행을 잠근 뒤 남은 좌석 수만큼만 조건부 UPDATE 한 번으로 예약하고, MeetingMember를 한 번에 저장합니다
+ */
+@Service
+@RequiredArgsConstructor
+public class MeetingAdmissionProcessor {
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingMemberRepository meetingMemberRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 티켓 묶음 처리
+     *
+     * @return 티켓 ID → 처리 결과
+     */
+    @Transactional
+    public Map<String, AdmissionOutcome> admit(Long meetingId, List<AdmissionTicket> tickets) {
+        Map<String, AdmissionOutcome> outcomes = new HashMap<>();
+
+        // 행 잠금: 커밋 전까지 다른 참가/탈퇴의 좌석 변경이 대기하므로 아래에서 계산한 남은 좌석 수가 유지됨
+        Optional<Meeting> found = meetingRepository.findForUpdateById(meetingId);
+        if (found.isEmpty()) {
+            tickets.forEach(ticket -> outcomes.put(ticket.getTicketId(), AdmissionOutcome.rejected("모임을 찾을 수 없습니다.")));
+            return outcomes;
+        }
+        Meeting meeting = found.get();
+        MeetingSnapshot before = MeetingSnapshot.from(meeting);
+
+        // 1. 중복 참가 / 사용자 확인 (사용자, 기존 참가 정보 모두 IN 한 번)
+        List<Long> userIds = tickets.stream().map(AdmissionTicket::getUserId).distinct().toList();
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getUserId(), user);
+        }
+        Map<Long, MeetingMember> existing = new HashMap<>();
+        for (MeetingMember member : meetingMemberRepository.findByMeetingIdAndUser_UserIdIn(meetingId, userIds)) {
+            existing.put(member.getUser().getUserId(), member);
+        }
+
+        List<AdmissionTicket> eligible = new ArrayList<>();
+        List<MeetingMember> leftMembers = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (AdmissionTicket ticket : tickets) {
+            Long userId = ticket.getUserId();
+            MeetingMember member = existing.get(userId);
+            if (!users.containsKey(userId)) {
+                outcomes.put(ticket.getTicketId(), AdmissionOutcome.rejected("사용자를 찾을 수 없습니다."));
+            } else if (!seen.add(userId) || (member != null && member.getStatus() != MemberStatus.LEFT)) {
+                outcomes.put(ticket.getTicketId(), AdmissionOutcome.rejected("이미 참가 신청한 모임입니다."));
+            } else {
+                if (member != null) {
+                    leftMembers.add(member);
+                }
+                eligible.add(ticket);
+            }
+        }
+        if (eligible.isEmpty()) {
+            return outcomes;
+        }
+
+        // 2. 좌석 수 계산 (승인 필요 모임은 신청만 받으므로 좌석을 예약하지 않음)
+        boolean approvalRequired = meeting.getIsApprovalRequired();
+        int available = Math.max(0, meeting.getMaxMembers() - meeting.getCurrentMembers());
+        int admitted = approvalRequired
+                ? (meeting.isFull() ? 0 : eligible.size())
+                : Math.min(eligible.size(), available);
+
+        // 3. 탈퇴(LEFT) 기록 정리: (meeting_id, user_id) 유니크 키 충돌로 배치 전체가 롤백되지 않도록 먼저 삭제
+        // - 기존 행을 재사용하면 예전 id가 유지되어 id 순 대기열에서 앞자리를 차지하므로 새 행으로 대체
+        if (!leftMembers.isEmpty()) {
+            meetingMemberRepository.deleteAllInBatch(leftMembers);
+        }
+
+        // 4. MeetingMember 일괄 저장 (먼저 들어온 티켓부터 좌석 배정, 나머지는 대기열)
+        List<MeetingMember> members = new ArrayList<>(eligible.size());
+        for (int i = 0; i < eligible.size(); i++) {
+            User user = users.get(eligible.get(i).getUserId());
+            members.add(i < admitted
+                    ? MeetingMember.createMember(meeting, user, approvalRequired)
+                    : MeetingMember.createWaitlisted(meeting, user));
+        }
+        List<MeetingMember> saved = meetingMemberRepository.saveAll(members);
+
+        for (int i = 0; i < eligible.size(); i++) {
+            AdmissionTicket ticket = eligible.get(i);
+            Long memberId = saved.get(i).getId();
+            if (i >= admitted) {
+                outcomes.put(ticket.getTicketId(), AdmissionOutcome.waitlisted(memberId));
+            } else {
+                outcomes.put(ticket.getTicketId(),
+                        approvalRequired ? AdmissionOutcome.pending(memberId) : AdmissionOutcome.approved(memberId));
+            }
+        }
+
+        // 5. 좌석 예약 (행을 잠근 상태에서 계산한 수이므로 한 번에 성공해야 함)
+        if (!approvalRequired && admitted > 0) {
+            if (meetingRepository.reserveSeats(meetingId, admitted) == 0) {
+                throw new IllegalStateException("좌석 예약에 실패했습니다. meetingId=" + meetingId);
+            }
+            meeting = meetingRepository.findById(meetingId).orElseThrow();
+            eventPublisher.publishEvent(MeetingChangedEvent.updated(before, meeting));
+        }
+        return outcomes;
+    }
+}
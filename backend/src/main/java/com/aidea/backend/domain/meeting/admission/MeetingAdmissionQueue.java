@@ -0,0 +1,166 @@
+package com.aidea.backend.domain.meeting.admission;
+
+import com.aidea.backend.domain.meeting.dto.response.AdmissionTicketResponse;
+import com.aidea.backend.domain.meeting.service.MeetingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인기 모임 입장 대기열 (인메모리)
+ * - isHot 모임의 참가 신청은 트랜잭션을 열지 않고 모임별 큐에 넣은 뒤 티켓을 즉시 반환합니다
+ * - 모임별 소비자는 항상 하나만 실행되며, 큐를 BATCH_SIZE 단위로 꺼내 MeetingAdmissionProcessor로 처리합니다
+ * - 처리 결과는 티켓에 기록되고 /topic/admission/{ticketId}로 푸시됩니다 (폴링 조회도 가능)
+ * - 모임별 큐는 소비자가 비우고 나면 제거합니다 (인기 모임 해제/종료 후 남지 않음)
+ * - 단일 인스턴스 기준입니다. 재기동 시 처리 전 티켓은 사라지며 클라이언트는 다시 신청해야 합니다
+ */
+@Slf4j
+@Component
+public class MeetingAdmissionQueue {
+
+    private static final int BATCH_SIZE = 100;
+    private static final long TICKET_RETENTION_MINUTES = 10; // 처리 완료 티켓 보관 시간
+    private static final String TOPIC_PREFIX = "/topic/admission/";
+
+    private final MeetingService meetingService;
+    private final MeetingAdmissionProcessor admissionProcessor;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ExecutorService admissionExecutor;
+
+    private final Map<Long, MeetingQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, AdmissionTicket> tickets = new ConcurrentHashMap<>();
+
+    public MeetingAdmissionQueue(MeetingService meetingService,
+            MeetingAdmissionProcessor admissionProcessor,
+            SimpMessagingTemplate messagingTemplate,
+            @Qualifier("meetingAdmissionExecutor") ExecutorService admissionExecutor) {
+        this.meetingService = meetingService;
+        this.admissionProcessor = admissionProcessor;
+        this.messagingTemplate = messagingTemplate;
+        this.admissionExecutor = admissionExecutor;
+    }
+
+    /**
+     * 입장 대기열 사용 모임인지 확인 (모임 상세 캐시의 isHot - 참가 신청마다 DB를 조회하지 않음)
+     */
+    public boolean isEnabled(Long meetingId) {
+        return Boolean.TRUE.equals(meetingService.getMeetingById(meetingId).getIsHot());
+    }
+
+    /**
+     * 참가 신청을 대기열에 추가 (같은 사용자가 처리 전에 다시 신청하면 기존 티켓 반환)
+     */
+    public AdmissionTicket enqueue(Long meetingId, Long userId) {
+        // 큐 제거와 같은 키 잠금 안에서 추가하므로, 제거된 큐에 티켓이 들어가지 않음
+        AdmissionTicket[] ticket = new AdmissionTicket[1];
+        MeetingQueue queue = queues.compute(meetingId, (id, current) -> {
+            MeetingQueue target = current != null ? current : new MeetingQueue();
+            ticket[0] = target.waitingByUser.computeIfAbsent(userId, user -> {
+                AdmissionTicket created = new AdmissionTicket(meetingId, userId);
+                tickets.put(created.getTicketId(), created);
+                target.tickets.add(created);
+                return created;
+            });
+            return target;
+        });
+        scheduleDrain(meetingId, queue);
+        return ticket[0];
+    }
+
+    /**
+     * 티켓 조회
+     *
+     * @return 없거나 보관 기간이 지난 경우 null
+     */
+    public AdmissionTicket getTicket(String ticketId) {
+        return tickets.get(ticketId);
+    }
+
+    private void scheduleDrain(Long meetingId, MeetingQueue queue) {
+        if (queue.draining.compareAndSet(false, true)) {
+            admissionExecutor.execute(() -> drain(meetingId, queue));
+        }
+    }
+
+    /**
+     * 모임별 단일 소비자: 큐가 빌 때까지 배치 처리
+     */
+    private void drain(Long meetingId, MeetingQueue queue) {
+        try {
+            List<AdmissionTicket> batch;
+            while (!(batch = poll(queue)).isEmpty()) {
+                process(meetingId, batch);
+                for (AdmissionTicket ticket : batch) {
+                    queue.waitingByUser.remove(ticket.getUserId(), ticket);
+                }
+            }
+            purgeExpiredTickets();
+        } finally {
+            queue.draining.set(false);
+        }
+        // 빈 큐 제거 (이후 신청은 새 큐로 감)
+        queues.computeIfPresent(meetingId, (id, current) -> current == queue && queue.tickets.isEmpty() ? null : current);
+        // 종료 직전에 들어온 티켓이 있으면 다시 소비자 실행
+        if (!queue.tickets.isEmpty()) {
+            scheduleDrain(meetingId, queue);
+        }
+    }
+
+    private List<AdmissionTicket> poll(MeetingQueue queue) {
+        List<AdmissionTicket> batch = new ArrayList<>(BATCH_SIZE);
+        AdmissionTicket ticket;
+        while (batch.size() < BATCH_SIZE && (ticket = queue.tickets.poll()) != null) {
+            batch.add(ticket);
+        }
+        return batch;
+    }
+
+    private void process(Long meetingId, List<AdmissionTicket> batch) {
+        Map<String, AdmissionOutcome> outcomes;
+        try {
+            outcomes = admissionProcessor.admit(meetingId, batch);
+        } catch (RuntimeException e) {
+            log.error("입장 대기열 처리 실패: meetingId={}, size={}", meetingId, batch.size(), e);
+            outcomes = Map.of();
+        }
+
+        for (AdmissionTicket ticket : batch) {
+            AdmissionOutcome outcome = outcomes.getOrDefault(ticket.getTicketId(),
+                    AdmissionOutcome.rejected("참가 신청 처리 중 오류가 발생했습니다. 다시 시도해주세요."));
+            ticket.complete(outcome.getStatus(), outcome.getMemberId(), outcome.getMessage());
+            try {
+                messagingTemplate.convertAndSend(TOPIC_PREFIX + ticket.getTicketId(),
+                        AdmissionTicketResponse.from(ticket));
+            } catch (RuntimeException e) {
+                log.warn("입장 결과 푸시 실패: ticketId={}, cause={}", ticket.getTicketId(), e.getMessage());
+            }
+        }
+        log.debug("입장 대기열 배치 처리: meetingId={}, size={}", meetingId, batch.size());
+    }
+
+    private void purgeExpiredTickets() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(TICKET_RETENTION_MINUTES);
+        tickets.values().removeIf(ticket -> ticket.isCompleted() && ticket.getCompletedAt().isBefore(threshold));
+    }
+
+    /**
+     * 모임별 대기열 상태
+     */
+    private static final class MeetingQueue {
+
+        private final Queue<AdmissionTicket> tickets = new ConcurrentLinkedQueue<>();
+        private final Map<Long, AdmissionTicket> waitingByUser = new ConcurrentHashMap<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+    }
+}
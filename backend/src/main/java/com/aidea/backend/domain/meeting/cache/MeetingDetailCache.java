@@ -0,0 +1,365 @@
+package com.aidea.backend.domain.meeting.cache;
+
+import com.aidea.backend.domain.meeting.dto.response.MeetingResponse;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import com.aidea.backend.domain.user.event.UserProfileChangedEvent;
+import com.aidea.backend.global.cache.RedisStampedeLock;
+import com.aidea.backend.global.cache.SingleFlight;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 모임 상세 2단 캐시 (로컬 Caffeine → Redis → DB)
+ * - 로컬 캐시는 인스턴스별로 크기/TTL을 제한해 두고, Redis에는 MeetingResponse JSON을 인스턴스 간에 공유합니다
+ * - 모임 변경 커밋 이후 Redis 항목을 지우고 무효화 채널로 모임 ID를 발행하면, 모든 인스턴스가 로컬 항목을 비웁니다
+ * - 캐시 값에 생성자 닉네임/프로필 이미지가 들어 있으므로, 생성자 프로필 변경 시 그 사용자가 만든 모임도 같은 방식으로 비웁니다
+ * - 로컬 미스는 인스턴스 안에서 모임 ID별로 합쳐(SingleFlight) Redis/DB를 한 번만 조회합니다
+ * - stampede-lock을 켜면 Redis 미스 시 짧은 분산 락으로 클러스터 전체에서 모임당 한 번만 DB를 조회합니다
+ * - 미스 후 되쓰기는 무효화 버전을 비교해, DB 조회 이후 무효화가 있었으면 이전 값을 다시 채우지 않습니다
+ *   (Redis: 조회 전에 읽은 버전 키와 같을 때만 SET, 로컬: 조회 중 무효화 세대가 바뀌면 넣지 않음)
+ * - Redis 장애 시에는 로컬 캐시와 DB만으로 동작합니다
+ */
+@Slf4j
+@Component
+public class MeetingDetailCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "meeting:detail:invalidate";
+    private static final String KEY_PREFIX = "meeting:detail:";
+    private static final String LOCK_KEY_PREFIX = "meeting:detail:lock:";
+    private static final String VERSION_KEY_PREFIX = "meeting:detail:version:";
+    private static final String NO_VERSION = "0";
+    private static final long LOCK_POLL_MILLIS = 50L;
+    private static final int GENERATION_STRIPES = 1024;
+
+    // KEYS = [상세 키, 버전 키]..., ARGV = [TTL(ms), (읽어 둔 버전, JSON)...] → 버전이 그대로인 항목만 저장
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+            "local written = 0 "
+                    + "for i = 1, #KEYS, 2 do "
+                    + "if (redis.call('get', KEYS[i + 1]) or '" + NO_VERSION + "') == ARGV[i + 1] then "
+                    + "redis.call('set', KEYS[i], ARGV[i + 2], 'PX', ARGV[1]) written = written + 1 end "
+                    + "end "
+                    + "return written",
+            Long.class);
+
+    // KEYS = [상세 키, 버전 키], ARGV = [새 버전, TTL(ms)] → 삭제와 버전 교체를 한 번에
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('del', KEYS[1]) "
+                    + "redis.call('set', KEYS[2], ARGV[1], 'PX', ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeetingRepository meetingRepository;
+    private final Cache<Long, MeetingResponse> local;
+    private final Duration redisTtl;
+    private final SingleFlight<Long, MeetingResponse> loads = new SingleFlight<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final RedisStampedeLock stampedeLock;
+    private final boolean stampedeLockEnabled;
+    private final Duration lockTtl;
+
+    public MeetingDetailCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+            MeetingRepository meetingRepository, RedisStampedeLock stampedeLock,
+            @Value("${meeting.cache.local-max-size:10000}") long localMaxSize,
+            @Value("${meeting.cache.local-ttl-seconds:30}") long localTtlSeconds,
+            @Value("${meeting.cache.redis-ttl-seconds:600}") long redisTtlSeconds,
+            @Value("${meeting.cache.stampede-lock.enabled:false}") boolean stampedeLockEnabled,
+            @Value("${meeting.cache.stampede-lock.ttl-millis:3000}") long lockTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meetingRepository = meetingRepository;
+        this.stampedeLock = stampedeLock;
+        this.stampedeLockEnabled = stampedeLockEnabled;
+        this.lockTtl = Duration.ofMillis(lockTtlMillis);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+    }
+
+    /**
+     * 모임 상세 조회 (로컬 → Redis → loader 순, 하위 단계에서 찾으면 상위 단계에 채움)
+     */
+    public MeetingResponse get(Long meetingId, Function<Long, MeetingResponse> loader) {
+        MeetingResponse cached = local.getIfPresent(meetingId);
+        if (cached != null) {
+            return cached;
+        }
+
+        return loads.execute(meetingId, () -> {
+            long generation = generation(meetingId);
+            List<String> values = readRedis(List.of(meetingId));
+            MeetingResponse response = values != null ? parse(meetingId, values.get(0)) : null;
+            if (response == null) {
+                String version = values != null ? versionOf(values.get(1)) : null;
+                response = stampedeLockEnabled
+                        ? loadWithLock(meetingId, version, loader)
+                        : loadAndStore(meetingId, version, loader);
+            }
+            putLocal(meetingId, response, generation);
+            return response;
+        });
+    }
+
+    /**
+     * 여러 모임 상세 조회 (로컬 → Redis MGET → loader 한 번, 못 찾은 ID는 결과에서 빠짐)
+     * - Redis에서 찾은 항목은 로컬에, loader로 읽은 항목은 Redis(스크립트 한 번)와 로컬에 채웁니다
+     *
+     * @param loader 캐시에 없는 ID 목록을 한 번에 조회 (ID → 응답)
+     */
+    public Map<Long, MeetingResponse> getAll(List<Long> meetingIds,
+            Function<List<Long>, Map<Long, MeetingResponse>> loader) {
+        Map<Long, MeetingResponse> result = new HashMap<>(local.getAllPresent(meetingIds));
+        List<Long> misses = new ArrayList<>();
+        for (Long meetingId : meetingIds) {
+            if (!result.containsKey(meetingId)) {
+                misses.add(meetingId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, Long> missGenerations = new HashMap<>();
+        misses.forEach(meetingId -> missGenerations.put(meetingId, generation(meetingId)));
+
+        List<Long> dbMisses = new ArrayList<>();
+        Map<Long, String> versions = new HashMap<>();
+        List<String> values = readRedis(misses);
+        for (int i = 0; i < misses.size(); i++) {
+            Long meetingId = misses.get(i);
+            MeetingResponse response = values != null ? parse(meetingId, values.get(i)) : null;
+            if (response != null) {
+                putLocal(meetingId, response, missGenerations.get(meetingId));
+                result.put(meetingId, response);
+            } else {
+                dbMisses.add(meetingId);
+                if (values != null) {
+                    versions.put(meetingId, versionOf(values.get(misses.size() + i)));
+                }
+            }
+        }
+        if (dbMisses.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, MeetingResponse> loaded = loader.apply(dbMisses);
+        writeRedis(loaded, versions);
+        loaded.forEach((meetingId, response) -> putLocal(meetingId, response, missGenerations.get(meetingId)));
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * 분산 락을 잡은 인스턴스만 DB를 조회하고, 나머지는 락 TTL 동안 Redis에 값이 채워지기를 기다립니다
+     * (락을 잡은 쪽이 실패해 값이 끝내 없으면 직접 조회)
+     */
+    private MeetingResponse loadWithLock(Long meetingId, String version, Function<Long, MeetingResponse> loader) {
+        String lockKey = LOCK_KEY_PREFIX + meetingId;
+        String token = stampedeLock.tryLock(lockKey, lockTtl);
+        if (token != null) {
+            try {
+                return loadAndStore(meetingId, version, loader);
+            } finally {
+                stampedeLock.unlock(lockKey, token);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + lockTtl.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            MeetingResponse response = readRedis(meetingId);
+            if (response != null) {
+                return response;
+            }
+        }
+        return loadAndStore(meetingId, version, loader);
+    }
+
+    /**
+     * loader 조회 후 Redis에 되쓰기
+     *
+     * @param version DB 조회 전에 읽은 무효화 버전 (null이면 Redis를 읽지 못한 것이므로 되쓰지 않음)
+     */
+    private MeetingResponse loadAndStore(Long meetingId, String version, Function<Long, MeetingResponse> loader) {
+        MeetingResponse response = loader.apply(meetingId);
+        if (version != null) {
+            writeRedis(Map.of(meetingId, response), Map.of(meetingId, version));
+        }
+        return response;
+    }
+
+    /**
+     * 모임 변경 커밋 이후 무효화 (커밋 전에 지우면 그 사이 조회가 이전 값을 다시 채울 수 있음)
+     */
+    @TransactionalEventListener
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        evict(event.getMeetingId());
+    }
+
+    /**
+     * 생성자 프로필 변경 커밋 이후 그 사용자가 만든 모임 무효화 (트랜잭션 밖에서 발행되면 바로 실행 - OAuth 로그인 갱신)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        List<Long> meetingIds = meetingRepository.findIdsByCreatorUserId(event.getUserId());
+        meetingIds.forEach(this::evict);
+        log.debug("생성자 프로필 변경으로 모임 상세 캐시 무효화: userId={}, {}개", event.getUserId(), meetingIds.size());
+    }
+
+    /**
+     * Redis 항목 삭제 + 버전 교체 + 전체 인스턴스에 로컬 무효화 발행
+     * - 버전을 바꿔 두면 무효화 이전에 DB를 읽은 조회가 이전 값을 다시 쓰지 못합니다
+     */
+    public void evict(Long meetingId) {
+        invalidateLocal(meetingId);
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(key(meetingId), versionKey(meetingId)),
+                    UUID.randomUUID().toString(), String.valueOf(redisTtl.toMillis()));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, meetingId.toString());
+        } catch (RuntimeException e) {
+            log.warn("모임 상세 캐시 무효화 실패: meetingId={}, cause={}", meetingId, e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 채널 수신 (자신이 발행한 메시지도 수신하며, 중복 무효화는 무해함)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidateLocal(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 모임 상세 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    private MeetingResponse readRedis(Long meetingId) {
+        try {
+            String json = redisTemplate.opsForValue().get(key(meetingId));
+            return json != null ? objectMapper.readValue(json, MeetingResponse.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("모임 상세 캐시 조회 실패: meetingId={}, cause={}", meetingId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 상세 값과 무효화 버전을 MGET 한 번으로 조회
+     *
+     * @return 앞쪽 meetingIds.size()개는 상세 JSON, 뒤쪽은 같은 순서의 버전 (Redis 장애 시 null)
+     */
+    private List<String> readRedis(List<Long> meetingIds) {
+        List<String> keys = new ArrayList<>(meetingIds.size() * 2);
+        meetingIds.forEach(meetingId -> keys.add(key(meetingId)));
+        meetingIds.forEach(meetingId -> keys.add(versionKey(meetingId)));
+        try {
+            return redisTemplate.opsForValue().multiGet(keys);
+        } catch (RuntimeException e) {
+            log.warn("모임 상세 캐시 일괄 조회 실패: {}개, cause={}", meetingIds.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    private MeetingResponse parse(Long meetingId, String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, MeetingResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("모임 상세 캐시 역직렬화 실패: meetingId={}, cause={}", meetingId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 읽어 둔 버전이 그대로인 항목만 저장 (스크립트 한 번)
+     */
+    private void writeRedis(Map<Long, MeetingResponse> responses, Map<Long, String> versions) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(redisTtl.toMillis()));
+        try {
+            for (Map.Entry<Long, MeetingResponse> entry : responses.entrySet()) {
+                String version = versions.get(entry.getKey());
+                if (version == null) {
+                    continue;
+                }
+                keys.add(key(entry.getKey()));
+                keys.add(versionKey(entry.getKey()));
+                args.add(version);
+                args.add(objectMapper.writeValueAsString(entry.getValue()));
+            }
+            if (!keys.isEmpty()) {
+                redisTemplate.execute(WRITE_SCRIPT, keys, args.toArray());
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("모임 상세 캐시 저장 실패: {}개, cause={}", responses.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 조회 시작 때 읽은 무효화 세대가 그대로일 때만 로컬에 저장
+     */
+    private void putLocal(Long meetingId, MeetingResponse response, long generation) {
+        if (generation(meetingId) == generation) {
+            local.put(meetingId, response);
+        }
+    }
+
+    private void invalidateLocal(Long meetingId) {
+        generations.incrementAndGet(stripe(meetingId));
+        local.invalidate(meetingId);
+    }
+
+    private long generation(Long meetingId) {
+        return generations.get(stripe(meetingId));
+    }
+
+    private static int stripe(Long meetingId) {
+        return Long.hashCode(meetingId) & (GENERATION_STRIPES - 1);
+    }
+
+    private static String versionOf(String version) {
+        return version != null ? version : NO_VERSION;
+    }
+
+    private static String key(Long meetingId) {
+        return KEY_PREFIX + meetingId;
+    }
+
+    private static String versionKey(Long meetingId) {
+        return VERSION_KEY_PREFIX + meetingId;
+    }
+}
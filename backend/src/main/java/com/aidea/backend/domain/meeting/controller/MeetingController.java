@@ -1,9 +1,18 @@
 package com.aidea.backend.domain.meeting.controller;
 
+import com.aidea.backend.domain.meeting.admission.AdmissionTicket;
+import com.aidea.backend.domain.meeting.admission.MeetingAdmissionQueue;
 import com.aidea.backend.domain.meeting.dto.request.CreateMeetingRequest;
 import com.aidea.backend.domain.meeting.dto.request.UpdateMeetingRequest;
+import com.aidea.backend.domain.meeting.dto.response.AdmissionTicketResponse;
+import com.aidea.backend.domain.meeting.dto.response.CursorResponse;
+import com.aidea.backend.domain.meeting.dto.response.MeetingClusterResponse;
+import com.aidea.backend.domain.meeting.dto.response.MeetingFacetResponse;
 import com.aidea.backend.domain.meeting.dto.response.MeetingResponse;
 import com.aidea.backend.domain.meeting.dto.response.MeetingSummaryResponse;
+import com.aidea.backend.domain.meeting.dto.response.NearbyMeetingResponse;
+import com.aidea.backend.domain.meeting.facet.MeetingFacetCounter;
+import com.aidea.backend.domain.meeting.geo.MeetingClusterIndex;
 import com.aidea.backend.domain.meeting.service.MeetingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,6 +35,9 @@ import org.springframework.web.bind.annotation.*;
 public class MeetingController {
 
     private final MeetingService meetingService;
+    private final MeetingAdmissionQueue meetingAdmissionQueue;
+    private final MeetingFacetCounter meetingFacetCounter;
+    private final MeetingClusterIndex meetingClusterIndex;
     private final com.aidea.backend.domain.user.repository.UserRepository userRepository;
 
     /**
@@ -54,6 +66,17 @@ public class MeetingController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 모임 상세 일괄 조회
+     */
+    @Operation(summary = "모임 상세 일괄 조회", description = "모임 ID 목록(최대 50개, 쉼표 구분)의 상세 정보를 요청한 순서대로 조회합니다. 존재하지 않는 모임은 제외됩니다")
+    @GetMapping("/batch")
+    public ResponseEntity<java.util.List<MeetingResponse>> getMeetingsByIds(
+            @RequestParam java.util.List<Long> ids) {
+        java.util.List<MeetingResponse> response = meetingService.getMeetingsByIds(ids);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 모임 목록 조회 (페이징)
      */
@@ -70,15 +93,87 @@ public class MeetingController {
     /**
      * 모임 검색 (조건별 통합 검색)
      */
-    @Operation(summary = "모임 검색", description = "카테고리, 지역 조건으로 모임을 검색합니다")
+    @Operation(summary = "모임 검색", description = "카테고리, 지역 조건으로 모임을 검색합니다. q를 주면 제목/설명 키워드 검색 결과를 관련도 순으로 반환합니다")
     @GetMapping("/search")
     public ResponseEntity<Page<MeetingSummaryResponse>> searchMeetings(
             @RequestParam(required = false) com.aidea.backend.domain.meeting.entity.enums.MeetingCategory category,
             @RequestParam(required = false) com.aidea.backend.domain.meeting.entity.enums.Region region,
+            @RequestParam(required = false) String q,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<MeetingSummaryResponse> response = meetingService.searchMeetings(category, region, pageable);
+        Page<MeetingSummaryResponse> response = meetingService.searchMeetings(category, region, q, pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 모임 목록 조회 (커서)
+     */
+    @Operation(summary = "모임 목록 조회 (커서)", description = "최신순 모임 목록을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<MeetingSummaryResponse>> getMeetingsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorResponse<MeetingSummaryResponse> response = meetingService.getMeetingsByCursor(null, null, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 모임 검색 (커서)
+     */
+    @Operation(summary = "모임 검색 (커서)", description = "카테고리, 지역 조건으로 모임을 커서 기반으로 검색합니다")
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorResponse<MeetingSummaryResponse>> searchMeetingsByCursor(
+            @RequestParam(required = false) com.aidea.backend.domain.meeting.entity.enums.MeetingCategory category,
+            @RequestParam(required = false) com.aidea.backend.domain.meeting.entity.enums.Region region,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorResponse<MeetingSummaryResponse> response = meetingService.getMeetingsByCursor(category, region, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 주변 모임 조회 (거리순, 커서)
+     */
+    @Operation(summary = "주변 모임 조회", description = "좌표 기준 반경(최대 20km) 이내의 모집 중인 모임을 가까운 순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다")
+    @GetMapping("/nearby")
+    public ResponseEntity<CursorResponse<NearbyMeetingResponse>> getNearbyMeetings(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "3000") double radiusM,
+            @RequestParam(required = false) com.aidea.backend.domain.meeting.entity.enums.MeetingCategory category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<NearbyMeetingResponse> response = meetingService.getNearbyMeetings(
+                lat, lng, radiusM, category, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 지도 마커 클러스터
+     */
+    @Operation(summary = "지도 마커 클러스터", description = "지도 영역(남서~북동)과 줌 레벨로 모집 중인 모임을 격자 단위로 묶은 클러스터(개수, 중심 좌표)를 조회합니다. 개수가 1이면 meetingId가 포함됩니다")
+    @GetMapping("/clusters")
+    public ResponseEntity<java.util.List<MeetingClusterResponse>> getClusters(
+            @RequestParam double swLat,
+            @RequestParam double swLng,
+            @RequestParam double neLat,
+            @RequestParam double neLng,
+            @RequestParam int zoom) {
+        java.util.List<MeetingClusterResponse> response = meetingClusterIndex.getClusters(swLat, swLng, neLat, neLng, zoom);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 필터별 모임 수 (패싯)
+     */
+    @Operation(summary = "필터별 모임 수", description = "카테고리별/지역별 모임 수를 조회합니다. region을 주면 카테고리별 수가, category를 주면 지역별 수가 그 조건 안에서 집계됩니다")
+    @GetMapping("/facets")
+    public ResponseEntity<MeetingFacetResponse> getFacetCounts(
+            @RequestParam(required = false) com.aidea.backend.domain.meeting.entity.enums.MeetingCategory category,
+            @RequestParam(required = false) com.aidea.backend.domain.meeting.entity.enums.Region region,
+            @RequestParam(required = false) com.aidea.backend.domain.meeting.entity.enums.MeetingStatus status) {
+        MeetingFacetResponse response = meetingFacetCounter.getCounts(category, region, status);
         return ResponseEntity.ok(response);
     }
 
@@ -116,19 +211,44 @@ public class MeetingController {
 
     /**
      * 모임 참가 신청
+     * - 인기 모임(isHot)은 입장 대기열에 넣고 202 + 티켓 반환
      */
-    @Operation(summary = "모임 참가 신청", description = "모임에 참가 신청합니다")
+    @Operation(summary = "모임 참가 신청", description = "모임에 참가 신청합니다. 인기 모임은 202와 입장 티켓을 반환하며, 결과는 티켓 조회 또는 /topic/admission/{ticketId} 구독으로 확인합니다")
     @PostMapping("/{id}/join")
-    public ResponseEntity<com.aidea.backend.domain.meeting.dto.response.MemberResponse> joinMeeting(
+    public ResponseEntity<?> joinMeeting(
             @PathVariable Long id) {
         String email = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication().getName();
         com.aidea.backend.domain.user.entity.User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
+        if (meetingAdmissionQueue.isEnabled(id)) {
+            AdmissionTicket ticket = meetingAdmissionQueue.enqueue(id, user.getUserId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(AdmissionTicketResponse.from(ticket));
+        }
+
         com.aidea.backend.domain.meeting.dto.response.MemberResponse response = meetingService.joinMeeting(id, user.getUserId());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 입장 티켓 조회 (인기 모임 참가 신청 결과 폴링)
+     */
+    @Operation(summary = "입장 티켓 조회", description = "인기 모임 참가 신청 티켓의 처리 결과를 조회합니다")
+    @GetMapping("/{id}/join/tickets/{ticketId}")
+    public ResponseEntity<AdmissionTicketResponse> getAdmissionTicket(
+            @PathVariable Long id,
+            @PathVariable String ticketId) {
+        String email = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication().getName();
+        com.aidea.backend.domain.user.entity.User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        AdmissionTicket ticket = meetingAdmissionQueue.getTicket(ticketId);
+        if (ticket == null || !ticket.getMeetingId().equals(id) || !ticket.getUserId().equals(user.getUserId())) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(AdmissionTicketResponse.from(ticket));
+    }
+
     /**
      * 승인된 참가자 목록 조회
      */
@@ -0,0 +1,13 @@
+package com.aidea.backend.domain.meeting.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 마감 시각 프로젝션 (생명주기 스케줄러 적재용)
+ */
+public interface MeetingDeadlineView {
+
+    Long getId();
+
+    LocalDateTime getMeetingDate();
+}
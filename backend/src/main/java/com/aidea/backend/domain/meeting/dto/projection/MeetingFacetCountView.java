@@ -0,0 +1,19 @@
+package com.aidea.backend.domain.meeting.dto.projection;
+
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+
+/**
+ * 카테고리 × 지역 × 상태별 모임 수 프로젝션 (패싯 카운터 적재용)
+ */
+public interface MeetingFacetCountView {
+
+    MeetingCategory getCategory();
+
+    Region getRegion();
+
+    MeetingStatus getStatus();
+
+    Long getCount();
+}
@@ -0,0 +1,37 @@
+package com.aidea.backend.domain.meeting.dto.projection;
+
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 목록용 인터페이스 프로젝션
+ * - MeetingSummaryResponse에 필요한 컬럼만 조회합니다 (description 등 제외, 영속성 컨텍스트 미등록)
+ * - @Query로 조회할 때는 select 절 별칭을 getter 이름과 맞춰야 합니다
+ */
+public interface MeetingSummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getImageUrl();
+
+    MeetingCategory getCategory();
+
+    Region getRegion();
+
+    String getLocation();
+
+    LocalDateTime getMeetingDate();
+
+    Integer getCurrentMembers();
+
+    Integer getMaxMembers();
+
+    MeetingStatus getStatus();
+
+    LocalDateTime getCreatedAt(); // 커서 조회용
+}
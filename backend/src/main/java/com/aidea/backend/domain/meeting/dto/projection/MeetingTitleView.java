@@ -0,0 +1,11 @@
+package com.aidea.backend.domain.meeting.dto.projection;
+
+/**
+ * 모임 제목 + 현재 인원 프로젝션 (자동완성 후보 적재용)
+ */
+public interface MeetingTitleView {
+
+    String getTitle();
+
+    Integer getCurrentMembers();
+}
@@ -0,0 +1,56 @@
+package com.aidea.backend.domain.meeting.dto.request;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 모임 목록 커서 (createdAt, id)
+ * - 최신순 정렬(createdAt DESC, id DESC)에서 마지막으로 받은 모임의 위치를 나타냅니다
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출합니다
+ */
+@Getter
+public class MeetingCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private MeetingCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static MeetingCursor of(LocalDateTime createdAt, Long id) {
+        return new MeetingCursor(createdAt, id);
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static MeetingCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            return new MeetingCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
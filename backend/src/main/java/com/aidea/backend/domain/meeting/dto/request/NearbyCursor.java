@@ -0,0 +1,62 @@
+package com.aidea.backend.domain.meeting.dto.request;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 주변 모임 커서 (distance, id)
+ * - 거리순 정렬(distance ASC, id ASC)에서 마지막으로 받은 모임의 위치를 나타냅니다
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출합니다
+ */
+@Getter
+public class NearbyCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final double distanceMeters;
+    private final long id;
+
+    private NearbyCursor(double distanceMeters, long id) {
+        this.distanceMeters = distanceMeters;
+        this.id = id;
+    }
+
+    public static NearbyCursor of(double distanceMeters, long id) {
+        return new NearbyCursor(distanceMeters, id);
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static NearbyCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            return new NearbyCursor(
+                    Double.parseDouble(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서 이후(더 멀거나, 같은 거리에서 id가 더 큼) 위치인지 확인
+     */
+    public boolean isBefore(double distanceMeters, long id) {
+        int byDistance = Double.compare(this.distanceMeters, distanceMeters);
+        return byDistance < 0 || (byDistance == 0 && this.id < id);
+    }
+
+    public String encode() {
+        String raw = distanceMeters + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
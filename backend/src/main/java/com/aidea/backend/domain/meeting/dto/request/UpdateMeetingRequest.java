@@ -51,4 +51,6 @@ public class UpdateMeetingRequest {
 
     @NotNull(message = "승인 필요 여부는 필수입니다")
     private Boolean isApprovalRequired;
+
+    private Boolean isHot; // 인기 모임 여부 (선택, 입장 대기열 사용)
 }
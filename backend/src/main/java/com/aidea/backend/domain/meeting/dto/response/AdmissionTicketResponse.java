@@ -0,0 +1,36 @@
+package com.aidea.backend.domain.meeting.dto.response;
+
+import com.aidea.backend.domain.meeting.admission.AdmissionStatus;
+import com.aidea.backend.domain.meeting.admission.AdmissionTicket;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입장 티켓 응답 DTO
+ */
+@Getter
+@Builder
+public class AdmissionTicketResponse {
+
+    private String ticketId;
+    private Long meetingId;
+    private AdmissionStatus status; // QUEUED/APPROVED/PENDING/WAITLISTED/REJECTED
+    private Long memberId; // 참가 처리된 경우 MeetingMember ID
+    private String message; // 거절 사유
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    public static AdmissionTicketResponse from(AdmissionTicket ticket) {
+        return AdmissionTicketResponse.builder()
+                .ticketId(ticket.getTicketId())
+                .meetingId(ticket.getMeetingId())
+                .status(ticket.getStatus())
+                .memberId(ticket.getMemberId())
+                .message(ticket.getMessage())
+                .requestedAt(ticket.getRequestedAt())
+                .completedAt(ticket.getCompletedAt())
+                .build();
+    }
+}
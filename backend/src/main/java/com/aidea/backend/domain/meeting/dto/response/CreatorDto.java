@@ -3,12 +3,14 @@ package com.aidea.backend.domain.meeting.dto.response;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.AllArgsConstructor;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * 생성자 정보 DTO
  */
 @Getter
 @Builder
+@Jacksonized // 상세 캐시(Redis) 역직렬화용
 @AllArgsConstructor
 public class CreatorDto {
 
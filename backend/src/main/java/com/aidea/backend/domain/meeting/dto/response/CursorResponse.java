@@ -0,0 +1,27 @@
+package com.aidea.backend.domain.meeting.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 DTO
+ * - 전체 개수(count) 없이 다음 페이지 커서만 전달합니다
+ */
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private final boolean hasNext;
+
+    private CursorResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    public static <T> CursorResponse<T> of(List<T> content, String nextCursor) {
+        return new CursorResponse<>(content, nextCursor);
+    }
+}
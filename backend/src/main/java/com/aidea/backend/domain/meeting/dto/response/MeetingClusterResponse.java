@@ -0,0 +1,28 @@
+package com.aidea.backend.domain.meeting.dto.response;
+
+import com.aidea.backend.global.geo.HierarchicalGeoGrid;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 지도 마커 클러스터 응답 DTO
+ * - count가 1이면 단일 모임 마커이며 meetingId가 채워집니다
+ */
+@Getter
+@Builder
+public class MeetingClusterResponse {
+
+    private double latitude; // 클러스터 중심 (좌표 평균)
+    private double longitude;
+    private int count;
+    private Long meetingId;
+
+    public static MeetingClusterResponse from(HierarchicalGeoGrid.Cluster cluster) {
+        return MeetingClusterResponse.builder()
+                .latitude(cluster.latitude())
+                .longitude(cluster.longitude())
+                .count(cluster.count())
+                .meetingId(cluster.id())
+                .build();
+    }
+}
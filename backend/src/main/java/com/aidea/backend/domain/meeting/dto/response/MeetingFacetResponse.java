@@ -0,0 +1,22 @@
+package com.aidea.backend.domain.meeting.dto.response;
+
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 검색 필터 옆에 표시할 모임 수 응답
+ * - categories: 카테고리별 모임 수 (region 조건이 있으면 그 지역 안에서)
+ * - regions: 지역별 모임 수 (category 조건이 있으면 그 카테고리 안에서)
+ */
+@Getter
+@Builder
+public class MeetingFacetResponse {
+
+    private Map<MeetingCategory, Integer> categories;
+    private Map<Region, Integer> regions;
+    private int total; // category, region 조건을 모두 적용한 모임 수
+}
@@ -5,6 +5,7 @@ import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
 import com.aidea.backend.domain.meeting.entity.enums.Region;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
  */
 @Getter
 @Builder
+@Jacksonized // 상세 캐시(Redis) 역직렬화용
 public class MeetingResponse {
 
     private Long meetingId;
@@ -32,6 +34,7 @@ public class MeetingResponse {
     private LocalDateTime meetingDate;
     private MeetingStatus status;
     private Boolean isApprovalRequired;
+    private Boolean isHot; // true이면 참가 신청이 202 + 입장 티켓으로 처리됨
     private CreatorDto creator;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -1,5 +1,6 @@
 package com.aidea.backend.domain.meeting.dto.response;
 
+import com.aidea.backend.domain.meeting.dto.projection.MeetingSummaryView;
 import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
 import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
 import com.aidea.backend.domain.meeting.entity.enums.Region;
@@ -27,4 +28,24 @@ public class MeetingSummaryResponse {
     private Integer currentMembers;
     private Integer maxMembers;
     private MeetingStatus status;
+
+    /**
+     * 목록 프로젝션으로부터 생성
+     */
+    public static MeetingSummaryResponse from(MeetingSummaryView view) {
+        return MeetingSummaryResponse.builder()
+                .meetingId(view.getId())
+                .title(view.getTitle())
+                .imageUrl(view.getImageUrl())
+                .category(view.getCategory())
+                .categoryDisplayName(view.getCategory().getDisplayName())
+                .region(view.getRegion())
+                .regionFullName(view.getRegion().getFullName())
+                .location(view.getLocation())
+                .meetingDate(view.getMeetingDate())
+                .currentMembers(view.getCurrentMembers())
+                .maxMembers(view.getMaxMembers())
+                .status(view.getStatus())
+                .build();
+    }
 }
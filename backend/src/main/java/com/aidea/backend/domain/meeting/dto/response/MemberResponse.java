@@ -18,6 +18,6 @@ public class MemberResponse {
     private String nickname; // 닉네임
     private String profileImage; // 프로필 이미지
     private MemberRole role; // 역할 (HOST/MEMBER)
-    private MemberStatus status; // 상태 (PENDING/APPROVED/REJECTED/LEFT)
+    private MemberStatus status; // 상태 (PENDING/APPROVED/REJECTED/LEFT/WAITLISTED)
     private LocalDateTime joinedAt; // 참여 시간
 }
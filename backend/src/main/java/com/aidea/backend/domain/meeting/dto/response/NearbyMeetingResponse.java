@@ -0,0 +1,27 @@
+package com.aidea.backend.domain.meeting.dto.response;
+
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 주변 모임 응답 DTO (지도 표시용 좌표 + 거리)
+ */
+@Getter
+@Builder
+public class NearbyMeetingResponse {
+
+    private MeetingSummaryResponse meeting;
+    private Double latitude;
+    private Double longitude;
+    private double distanceMeters;
+
+    public static NearbyMeetingResponse of(MeetingSnapshot snapshot, double distanceMeters) {
+        return NearbyMeetingResponse.builder()
+                .meeting(snapshot.toSummary())
+                .latitude(snapshot.getLatitude())
+                .longitude(snapshot.getLongitude())
+                .distanceMeters(distanceMeters)
+                .build();
+    }
+}
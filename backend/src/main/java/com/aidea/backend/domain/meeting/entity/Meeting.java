@@ -21,7 +21,9 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "meeting")
+@Table(name = "meeting", indexes = {
+        @Index(name = "idx_meeting_created_at_id", columnList = "created_at, id")
+})
 public class Meeting {
 
     // ========== 기본 키 ==========
@@ -76,6 +78,13 @@ public class Meeting {
     @Column(nullable = false)
     private Boolean isApprovalRequired = false; // 승인 필요 여부
 
+    @Column
+    private Boolean isHot; // 인기 모임 여부 (참가 신청을 입장 대기열로 처리, null이면 false)
+
+    // ========== 관심사 태깅 ==========
+    @Column(name = "interest_mask")
+    private Long interestMask; // 관심사 비트셋 (관심사 mask_bit 위치의 비트, 생성/수정 시 계산)
+
     // ========== 연관 관계 ==========
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "creator_id", nullable = false)
@@ -158,6 +167,14 @@ public class Meeting {
         this.status = newStatus;
     }
 
+    /**
+     * 관심사 비트셋 갱신
+     * - 모임 생성/수정 시 InterestMatcher로 계산한 값을 저장
+     */
+    public void updateInterestMask(long interestMask) {
+        this.interestMask = interestMask;
+    }
+
     /**
      * 모임 정보 수정
      * - HOST만 수정 가능 (권한 검증은 Service에서 수행)
@@ -187,6 +204,15 @@ public class Meeting {
             this.meetingDate = request.getMeetingDate();
         if (request.getIsApprovalRequired() != null)
             this.isApprovalRequired = request.getIsApprovalRequired();
+        if (request.getIsHot() != null)
+            this.isHot = request.getIsHot();
+    }
+
+    /**
+     * 입장 대기열 사용 여부
+     */
+    public boolean isAdmissionQueued() {
+        return Boolean.TRUE.equals(this.isHot);
     }
 
     // ========== DTO 변환 메서드 ==========
@@ -213,6 +239,7 @@ public class Meeting {
                 .meetingDate(this.meetingDate)
                 .status(this.status)
                 .isApprovalRequired(this.isApprovalRequired)
+                .isHot(isAdmissionQueued())
                 .creator(com.aidea.backend.domain.meeting.dto.response.CreatorDto.builder()
                         .userId(this.creator.getUserId())
                         .nickname(this.creator.getNickname())
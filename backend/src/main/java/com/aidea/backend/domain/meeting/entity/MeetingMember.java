@@ -20,6 +20,8 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "meeting_member", uniqueConstraints = {
     @UniqueConstraint(columnNames = { "meeting_id", "user_id" })
+}, indexes = {
+    @Index(name = "idx_meeting_member_meeting_status_id", columnList = "meeting_id, status, id")
 })
 public class MeetingMember {
 
@@ -84,6 +86,18 @@ public class MeetingMember {
         .build();
   }
 
+  /**
+   * 대기자로 생성 (정원 초과 시 참가 신청용)
+   */
+  public static MeetingMember createWaitlisted(Meeting meeting, User user) {
+    return MeetingMember.builder()
+        .meeting(meeting)
+        .user(user)
+        .role(MemberRole.MEMBER)
+        .status(MemberStatus.WAITLISTED)
+        .build();
+  }
+
   // ========== 상태 변경 메서드 ==========
 
   /**
@@ -93,6 +107,13 @@ public class MeetingMember {
     this.status = MemberStatus.APPROVED;
   }
 
+  /**
+   * 대기자 승격 (승인 필요 모임은 승인 대기로 전환)
+   */
+  public void promote(boolean isApprovalRequired) {
+    this.status = isApprovalRequired ? MemberStatus.PENDING : MemberStatus.APPROVED;
+  }
+
   /**
    * 참가 신청 거절
    */
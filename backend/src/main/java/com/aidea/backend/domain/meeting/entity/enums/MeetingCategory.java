@@ -22,4 +22,23 @@ public enum MeetingCategory {
         this.displayName = displayName;
         this.description = description;
     }
+
+    /**
+     * 표시 이름으로 카테고리 조회 (관심사 카탈로그의 category 값과 매핑)
+     * - 공백은 무시하고, 카탈로그 표기 "컨텐츠"도 "콘텐츠"로 인식합니다
+     *
+     * @return 일치하는 카테고리, 없으면 null
+     */
+    public static MeetingCategory fromDisplayName(String displayName) {
+        if (displayName == null) {
+            return null;
+        }
+        String normalized = displayName.replace(" ", "").replace("컨텐츠", "콘텐츠");
+        for (MeetingCategory category : values()) {
+            if (category.displayName.equals(normalized)) {
+                return category;
+            }
+        }
+        return null;
+    }
 }
@@ -7,5 +7,6 @@ public enum MemberStatus {
     PENDING, // 승인 대기
     APPROVED, // 승인됨
     REJECTED, // 거절됨
-    LEFT // 나감
+    LEFT, // 나감
+    WAITLISTED // 정원 초과로 대기 중 (자리가 나면 신청 순서대로 승격)
 }
@@ -7,39 +7,43 @@ import lombok.Getter;
  */
 @Getter
 public enum Region {
-    // 서울시 25개 구 (가나다순)
-    SEOUL_GANGNAM("서울시", "강남구"),
-    SEOUL_GANGDONG("서울시", "강동구"),
-    SEOUL_GANGBUK("서울시", "강북구"),
-    SEOUL_GANGSEO("서울시", "강서구"),
-    SEOUL_GWANAK("서울시", "관악구"),
-    SEOUL_GWANGJIN("서울시", "광진구"),
-    SEOUL_GURO("서울시", "구로구"),
-    SEOUL_GEUMCHEON("서울시", "금천구"),
-    SEOUL_NOWON("서울시", "노원구"),
-    SEOUL_DOBONG("서울시", "도봉구"),
-    SEOUL_DONGDAEMUN("서울시", "동대문구"),
-    SEOUL_DONGJAK("서울시", "동작구"),
-    SEOUL_MAPO("서울시", "마포구"),
-    SEOUL_SEODAEMUN("서울시", "서대문구"),
-    SEOUL_SEOCHO("서울시", "서초구"),
-    SEOUL_SEONGDONG("서울시", "성동구"),
-    SEOUL_SEONGBUK("서울시", "성북구"),
-    SEOUL_SONGPA("서울시", "송파구"),
-    SEOUL_YANGCHEON("서울시", "양천구"),
-    SEOUL_YEONGDEUNGPO("서울시", "영등포구"),
-    SEOUL_YONGSAN("서울시", "용산구"),
-    SEOUL_EUNPYEONG("서울시", "은평구"),
-    SEOUL_JONGNO("서울시", "종로구"),
-    SEOUL_JUNG("서울시", "중구"),
-    SEOUL_JUNGNANG("서울시", "중랑구");
+    // 서울시 25개 구 (가나다순), 좌표는 구청 기준 대표 좌표
+    SEOUL_GANGNAM("서울시", "강남구", 37.5172, 127.0473),
+    SEOUL_GANGDONG("서울시", "강동구", 37.5301, 127.1238),
+    SEOUL_GANGBUK("서울시", "강북구", 37.6396, 127.0257),
+    SEOUL_GANGSEO("서울시", "강서구", 37.5509, 126.8495),
+    SEOUL_GWANAK("서울시", "관악구", 37.4784, 126.9516),
+    SEOUL_GWANGJIN("서울시", "광진구", 37.5385, 127.0823),
+    SEOUL_GURO("서울시", "구로구", 37.4954, 126.8874),
+    SEOUL_GEUMCHEON("서울시", "금천구", 37.4569, 126.8955),
+    SEOUL_NOWON("서울시", "노원구", 37.6542, 127.0568),
+    SEOUL_DOBONG("서울시", "도봉구", 37.6688, 127.0471),
+    SEOUL_DONGDAEMUN("서울시", "동대문구", 37.5744, 127.0400),
+    SEOUL_DONGJAK("서울시", "동작구", 37.5124, 126.9393),
+    SEOUL_MAPO("서울시", "마포구", 37.5663, 126.9019),
+    SEOUL_SEODAEMUN("서울시", "서대문구", 37.5791, 126.9368),
+    SEOUL_SEOCHO("서울시", "서초구", 37.4837, 127.0324),
+    SEOUL_SEONGDONG("서울시", "성동구", 37.5634, 127.0369),
+    SEOUL_SEONGBUK("서울시", "성북구", 37.5894, 127.0167),
+    SEOUL_SONGPA("서울시", "송파구", 37.5145, 127.1059),
+    SEOUL_YANGCHEON("서울시", "양천구", 37.5170, 126.8665),
+    SEOUL_YEONGDEUNGPO("서울시", "영등포구", 37.5264, 126.8962),
+    SEOUL_YONGSAN("서울시", "용산구", 37.5324, 126.9905),
+    SEOUL_EUNPYEONG("서울시", "은평구", 37.6027, 126.9291),
+    SEOUL_JONGNO("서울시", "종로구", 37.5735, 126.9790),
+    SEOUL_JUNG("서울시", "중구", 37.5641, 126.9979),
+    SEOUL_JUNGNANG("서울시", "중랑구", 37.6066, 127.0927);
 
     private final String city;
     private final String district;
+    private final double latitude; // 대표 좌표 (좌표 없는 모임/사용자의 거리 계산용)
+    private final double longitude;
 
-    Region(String city, String district) {
+    Region(String city, String district, double latitude, double longitude) {
         this.city = city;
         this.district = district;
+        this.latitude = latitude;
+        this.longitude = longitude;
     }
 
     /**
@@ -48,4 +52,32 @@ public enum Region {
     public String getFullName() {
         return city + " " + district;
     }
+
+    /**
+     * 위치 문자열에서 지역 추출 (예: "SEOUL GANGNAM", "서울시 강남구")
+     * - 여러 지역명이 포함되면 가장 긴 이름을 우선합니다 (JUNG vs JUNGNANG)
+     *
+     * @return 일치하는 지역, 없으면 null
+     */
+    public static Region fromLocation(String location) {
+        if (location == null) {
+            return null;
+        }
+
+        String upper = location.toUpperCase();
+        Region matched = null;
+        int matchedLength = 0;
+        for (Region region : values()) {
+            String englishName = region.name().replace("_", " ");
+            if (upper.contains(englishName) && englishName.length() > matchedLength) {
+                matched = region;
+                matchedLength = englishName.length();
+            }
+            if (location.contains(region.district) && region.district.length() > matchedLength) {
+                matched = region;
+                matchedLength = region.district.length();
+            }
+        }
+        return matched;
+    }
 }
@@ -0,0 +1,48 @@
+package com.aidea.backend.domain.meeting.event;
+
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import lombok.Getter;
+
+/**
+ * 모임 변경 이벤트
+ * - MeetingService의 쓰기 작업마다 발행됩니다
+ * - before/after 스냅샷으로 변경 전후 상태를 함께 전달합니다 (생성 시 before, 삭제 시 after는 null)
+ * - 인메모리 인덱스/캐시는 커밋 이후(@TransactionalEventListener) 이 이벤트로 갱신됩니다
+ */
+@Getter
+public class MeetingChangedEvent {
+
+    public enum Type {
+        CREATED, // 생성
+        UPDATED, // 정보/인원/상태 변경
+        DELETED // 삭제
+    }
+
+    private final Type type;
+    private final Long meetingId;
+    private final MeetingSnapshot before;
+    private final MeetingSnapshot after;
+
+    private MeetingChangedEvent(Type type, Long meetingId, MeetingSnapshot before, MeetingSnapshot after) {
+        this.type = type;
+        this.meetingId = meetingId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static MeetingChangedEvent created(Meeting meeting) {
+        return new MeetingChangedEvent(Type.CREATED, meeting.getId(), null, MeetingSnapshot.from(meeting));
+    }
+
+    public static MeetingChangedEvent updated(MeetingSnapshot before, Meeting meeting) {
+        return new MeetingChangedEvent(Type.UPDATED, meeting.getId(), before, MeetingSnapshot.from(meeting));
+    }
+
+    public static MeetingChangedEvent updated(MeetingSnapshot before, MeetingSnapshot after) {
+        return new MeetingChangedEvent(Type.UPDATED, after.getId(), before, after);
+    }
+
+    public static MeetingChangedEvent deleted(MeetingSnapshot before) {
+        return new MeetingChangedEvent(Type.DELETED, before.getId(), before, null);
+    }
+}
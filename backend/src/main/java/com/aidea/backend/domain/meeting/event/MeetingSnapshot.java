@@ -0,0 +1,130 @@
+package com.aidea.backend.domain.meeting.event;
+
+import com.aidea.backend.domain.meeting.dto.response.MeetingSummaryResponse;
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 상태 스냅샷 (불변)
+ * - 트랜잭션/영속성 컨텍스트 밖에서 안전하게 공유하기 위해 엔티티 값을 복사해 둡니다
+ * - 이벤트 페이로드 및 인메모리 인덱스의 원소로 사용됩니다
+ */
+@Getter
+public final class MeetingSnapshot {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final String imageUrl;
+    private final MeetingCategory category;
+    private final Region region;
+    private final String location;
+    private final Double latitude;
+    private final Double longitude;
+    private final int currentMembers;
+    private final int maxMembers;
+    private final LocalDateTime meetingDate;
+    private final MeetingStatus status;
+    private final LocalDateTime createdAt;
+    private final Long interestMask;
+
+    private MeetingSnapshot(Meeting meeting) {
+        this.id = meeting.getId();
+        this.title = meeting.getTitle();
+        this.description = meeting.getDescription();
+        this.imageUrl = meeting.getImageUrl();
+        this.category = meeting.getCategory();
+        this.region = meeting.getRegion();
+        this.location = meeting.getLocation();
+        this.latitude = meeting.getLatitude();
+        this.longitude = meeting.getLongitude();
+        this.currentMembers = meeting.getCurrentMembers();
+        this.maxMembers = meeting.getMaxMembers();
+        this.meetingDate = meeting.getMeetingDate();
+        this.status = meeting.getStatus();
+        this.createdAt = meeting.getCreatedAt();
+        this.interestMask = meeting.getInterestMask();
+    }
+
+    private MeetingSnapshot(MeetingSnapshot source, MeetingStatus status, String description, Long interestMask) {
+        this.id = source.id;
+        this.title = source.title;
+        this.description = description;
+        this.imageUrl = source.imageUrl;
+        this.category = source.category;
+        this.region = source.region;
+        this.location = source.location;
+        this.latitude = source.latitude;
+        this.longitude = source.longitude;
+        this.currentMembers = source.currentMembers;
+        this.maxMembers = source.maxMembers;
+        this.meetingDate = source.meetingDate;
+        this.status = status;
+        this.createdAt = source.createdAt;
+        this.interestMask = interestMask;
+    }
+
+    public static MeetingSnapshot from(Meeting meeting) {
+        return new MeetingSnapshot(meeting);
+    }
+
+    /**
+     * 상태만 바꾼 사본 (엔티티를 거치지 않는 일괄 UPDATE 후 after 스냅샷 생성용)
+     */
+    public MeetingSnapshot withStatus(MeetingStatus status) {
+        return new MeetingSnapshot(this, status, this.description, this.interestMask);
+    }
+
+    /**
+     * 인메모리 인덱스 원소용 사본 (설명(TEXT)은 버리고 관심사 비트셋을 채워 둠)
+     */
+    public MeetingSnapshot forIndex(long interestMask) {
+        return new MeetingSnapshot(this, this.status, null, interestMask);
+    }
+
+    /**
+     * 좌표 보유 여부
+     */
+    public boolean hasCoordinates() {
+        return this.latitude != null && this.longitude != null;
+    }
+
+    /**
+     * 모임이 가득 찼는지 확인
+     */
+    public boolean isFull() {
+        return this.currentMembers >= this.maxMembers;
+    }
+
+    /**
+     * 추천 후보 여부 (모집 중 + 정원 미달)
+     */
+    public boolean isRecruitable() {
+        return this.status == MeetingStatus.RECRUITING && !isFull();
+    }
+
+    /**
+     * MeetingSummaryResponse로 변환
+     */
+    public MeetingSummaryResponse toSummary() {
+        return MeetingSummaryResponse.builder()
+                .meetingId(this.id)
+                .title(this.title)
+                .imageUrl(this.imageUrl)
+                .category(this.category)
+                .categoryDisplayName(this.category.getDisplayName())
+                .region(this.region)
+                .regionFullName(this.region.getFullName())
+                .location(this.location)
+                .meetingDate(this.meetingDate)
+                .currentMembers(this.currentMembers)
+                .maxMembers(this.maxMembers)
+                .status(this.status)
+                .build();
+    }
+}
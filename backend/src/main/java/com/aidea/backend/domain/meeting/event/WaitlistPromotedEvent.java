@@ -0,0 +1,19 @@
+package com.aidea.backend.domain.meeting.event;
+
+import com.aidea.backend.domain.meeting.entity.enums.MemberStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대기자 승격 이벤트
+ * - 탈퇴/퇴출로 자리가 나서 대기열 맨 앞 멤버가 승격되었을 때 발행됩니다
+ */
+@Getter
+@RequiredArgsConstructor
+public class WaitlistPromotedEvent {
+
+    private final Long meetingId;
+    private final Long memberId;
+    private final Long userId;
+    private final MemberStatus status; // 승격 후 상태 (APPROVED, 승인 필요 모임은 PENDING)
+}
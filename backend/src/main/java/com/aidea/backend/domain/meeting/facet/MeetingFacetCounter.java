@@ -0,0 +1,160 @@
+package com.aidea.backend.domain.meeting.facet;
+
+import com.aidea.backend.domain.interest.matcher.InterestMatcher;
+import com.aidea.backend.domain.meeting.dto.projection.MeetingFacetCountView;
+import com.aidea.backend.domain.meeting.dto.response.MeetingFacetResponse;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 카테고리 × 지역 × 상태별 모임 수 카운터 (인메모리)
+ * - [category][region][status]를 펼친 고정 크기 배열 하나로 보관하므로 조회는 DB 없이 상수 시간입니다
+ * - 기동 시 GROUP BY 한 번으로 채우고, MeetingChangedEvent의 before/after로 증감합니다
+ * - 다른 인스턴스의 변경은 이벤트로 오지 않으므로 reseed 주기마다 전체를 다시 집계해 교체합니다
+ * - 집계하는 동안 들어온 증감은 모아 두었다가 새 배열에 다시 반영한 뒤 교체합니다 (RecruitingMeetingIndex와 같은 방식)
+ *   (커밋 직후 집계 쿼리가 시작되고 그 뒤에 리스너가 실행된 변경은 두 번 반영될 수 있으나, 다음 reseed에서 바로잡힘)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingFacetCounter {
+
+    private static final MeetingCategory[] CATEGORIES = MeetingCategory.values();
+    private static final Region[] REGIONS = Region.values();
+    private static final MeetingStatus[] STATUSES = MeetingStatus.values();
+
+    private final MeetingRepository meetingRepository;
+
+    private volatile AtomicIntegerArray counts = new AtomicIntegerArray(CATEGORIES.length * REGIONS.length * STATUSES.length);
+    private List<MeetingChangedEvent> pending; // 재집계 중 들어온 이벤트 (this로 동기화)
+
+    /**
+     * 기동 완료 후 집계 (생명주기 스케줄러가 종료 이벤트를 내기 전)
+     */
+    @Order(InterestMatcher.LOAD_ORDER + 2)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reseed();
+    }
+
+    /**
+     * 전체 재집계 후 교체
+     */
+    @Scheduled(fixedRateString = "${meeting.facet.reseed-interval-millis:300000}",
+            initialDelayString = "${meeting.facet.reseed-interval-millis:300000}")
+    public void reseed() {
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+        AtomicIntegerArray seeded = new AtomicIntegerArray(counts.length());
+        long total = 0;
+        try {
+            for (MeetingFacetCountView row : meetingRepository.countGroupByCategoryAndRegionAndStatus()) {
+                seeded.set(index(row.getCategory(), row.getRegion(), row.getStatus()), row.getCount().intValue());
+                total += row.getCount();
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pending = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            pending.forEach(event -> apply(seeded, event));
+            pending = null;
+            counts = seeded;
+        }
+        log.debug("모임 패싯 카운트 집계 완료: {}개", total);
+    }
+
+    /**
+     * 모임 변경 커밋 후 증감
+     */
+    @TransactionalEventListener
+    public synchronized void onMeetingChanged(MeetingChangedEvent event) {
+        apply(counts, event);
+        if (pending != null) {
+            pending.add(event);
+        }
+    }
+
+    /**
+     * 필터별 모임 수
+     *
+     * @param category 지역별 수를 셀 때 적용할 카테고리 (null이면 전체)
+     * @param region   카테고리별 수를 셀 때 적용할 지역 (null이면 전체)
+     * @param status   상태 (null이면 전체)
+     */
+    public MeetingFacetResponse getCounts(MeetingCategory category, Region region, MeetingStatus status) {
+        AtomicIntegerArray current = counts;
+        Map<MeetingCategory, Integer> byCategory = new EnumMap<>(MeetingCategory.class);
+        Map<Region, Integer> byRegion = new EnumMap<>(Region.class);
+        for (MeetingCategory c : CATEGORIES) {
+            byCategory.put(c, 0);
+        }
+        for (Region r : REGIONS) {
+            byRegion.put(r, 0);
+        }
+
+        int total = 0;
+        for (MeetingCategory c : CATEGORIES) {
+            for (Region r : REGIONS) {
+                int count = 0;
+                for (MeetingStatus s : STATUSES) {
+                    if (status == null || status == s) {
+                        count += current.get(index(c, r, s));
+                    }
+                }
+                if (region == null || region == r) {
+                    byCategory.merge(c, count, Integer::sum);
+                }
+                if (category == null || category == c) {
+                    byRegion.merge(r, count, Integer::sum);
+                }
+                if ((region == null || region == r) && (category == null || category == c)) {
+                    total += count;
+                }
+            }
+        }
+
+        return MeetingFacetResponse.builder()
+                .categories(byCategory)
+                .regions(byRegion)
+                .total(total)
+                .build();
+    }
+
+    private static void apply(AtomicIntegerArray target, MeetingChangedEvent event) {
+        MeetingSnapshot before = event.getBefore();
+        MeetingSnapshot after = event.getAfter();
+        if (before != null) {
+            target.decrementAndGet(index(before.getCategory(), before.getRegion(), before.getStatus()));
+        }
+        if (after != null) {
+            target.incrementAndGet(index(after.getCategory(), after.getRegion(), after.getStatus()));
+        }
+    }
+
+    private static int index(MeetingCategory category, Region region, MeetingStatus status) {
+        return (category.ordinal() * REGIONS.length + region.ordinal()) * STATUSES.length + status.ordinal();
+    }
+}
@@ -0,0 +1,74 @@
+package com.aidea.backend.domain.meeting.geo;
+
+import com.aidea.backend.domain.meeting.dto.response.MeetingClusterResponse;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.recommendation.index.RecruitingMeetingIndex;
+import com.aidea.backend.domain.recommendation.index.RecruitingMeetingIndexRebuiltEvent;
+import com.aidea.backend.global.geo.HierarchicalGeoGrid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 지도 마커 클러스터 인덱스
+ * - 지도에 표시하는 모임(모집 중 + 정원 미달 + 좌표 보유)을 줌 레벨별 격자로 미리 집계해 둡니다
+ * - 추천 후보 인덱스가 (재)적재될 때마다 후보 목록에서 다시 집계해 교체하고, 그 사이는 MeetingChangedEvent로 증분 갱신합니다 (DB 조회 없음)
+ * - 한 번의 응답은 MAX_CELLS개 이하의 클러스터로 제한됩니다 (영역이 넓으면 더 낮은 줌으로 집계)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingClusterIndex {
+
+    public static final int MAX_ZOOM = 18;
+    private static final int MAX_CELLS = 1024;
+
+    private final RecruitingMeetingIndex recruitingMeetingIndex;
+
+    private volatile HierarchicalGeoGrid grid = new HierarchicalGeoGrid(MAX_ZOOM);
+
+    /**
+     * 추천 후보 인덱스 (재)적재 이후 전체 집계 후 교체
+     */
+    @EventListener
+    public synchronized void onIndexRebuilt(RecruitingMeetingIndexRebuiltEvent event) {
+        HierarchicalGeoGrid rebuilt = new HierarchicalGeoGrid(MAX_ZOOM);
+        for (MeetingSnapshot snapshot : recruitingMeetingIndex.getCandidates()) {
+            if (snapshot.hasCoordinates()) {
+                rebuilt.put(snapshot.getId(), snapshot.getLatitude(), snapshot.getLongitude());
+            }
+        }
+        grid = rebuilt;
+        log.info("지도 클러스터 인덱스 적재 완료: {}개", rebuilt.size());
+    }
+
+    /**
+     * 모임 변경 커밋 후 반영
+     */
+    @TransactionalEventListener
+    public synchronized void onMeetingChanged(MeetingChangedEvent event) {
+        MeetingSnapshot after = event.getAfter();
+        if (after != null && after.isRecruitable() && after.hasCoordinates()) {
+            grid.put(after.getId(), after.getLatitude(), after.getLongitude());
+        } else {
+            grid.remove(event.getMeetingId());
+        }
+    }
+
+    /**
+     * 영역(남서 ~ 북동) 안의 클러스터
+     */
+    public List<MeetingClusterResponse> getClusters(double south, double west, double north, double east, int zoom) {
+        if (south > north || west > east) {
+            throw new IllegalArgumentException("잘못된 영역입니다.");
+        }
+        return grid.clusters(south, west, north, east, zoom, MAX_CELLS).stream()
+                .map(MeetingClusterResponse::from)
+                .toList();
+    }
+}
@@ -0,0 +1,60 @@
+package com.aidea.backend.domain.meeting.initializer;
+
+import com.aidea.backend.domain.interest.matcher.InterestMatcher;
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기존 모임 관심사 비트셋 백필
+ * - interest_mask가 비어 있는 모임을 id 기준 keyset 배치로 태깅합니다 (배치마다 별도 트랜잭션)
+ * - InterestMatcher 적재 직후, 추천 후보 인덱스 적재 전에 실행됩니다
+ * - 태깅이 끝난 모임은 조회 대상에서 빠지므로 재기동 시에는 새로 생긴 빈 행만 처리합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingInterestBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MeetingRepository meetingRepository;
+    private final InterestMatcher interestMatcher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Order(InterestMatcher.LOAD_ORDER + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0L;
+        int tagged = 0;
+        List<Meeting> batch;
+        do {
+            long afterId = lastId;
+            batch = transactionTemplate.execute(status -> {
+                List<Meeting> meetings = meetingRepository.findUntaggedAfter(afterId, PageRequest.ofSize(BATCH_SIZE));
+                for (Meeting meeting : meetings) {
+                    meetingRepository.updateInterestMask(meeting.getId(), interestMatcher.tag(
+                            meeting.getCategory(), meeting.getTitle(), meeting.getDescription()));
+                }
+                return meetings;
+            });
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+                tagged += batch.size();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        if (tagged > 0) {
+            log.info("모임 관심사 비트셋 백필 완료: {}개", tagged);
+        }
+    }
+}
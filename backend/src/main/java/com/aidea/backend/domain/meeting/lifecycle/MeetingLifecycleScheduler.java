@@ -0,0 +1,202 @@
+package com.aidea.backend.domain.meeting.lifecycle;
+
+import com.aidea.backend.domain.interest.matcher.InterestMatcher;
+import com.aidea.backend.domain.meeting.dto.projection.MeetingDeadlineView;
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import com.aidea.backend.global.scheduling.HierarchicalTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모임 생명주기 스케줄러
+ * - 모임 날짜가 지난 진행 중(RECRUITING/CONFIRMED) 모임을 COMPLETED로 바꿉니다
+ * - 앞으로 horizon 이내에 마감되는 모임만 타이밍 휠에 올려 두고, refill 주기마다 다음 구간을 다시 적재합니다
+ *   (적재 쿼리는 하한이 없으므로 기동 전/장애 중 놓친 모임도 다음 적재 때 바로 처리됨)
+ * - 마감된 모임은 tick마다 모아 일괄 UPDATE 하고, 모임별 MeetingChangedEvent로 캐시/인덱스에서 빠지게 합니다
+ * - 모임 생성/수정/삭제 커밋 후 마감 시각을 다시 등록하며, 휠에 남은 이전 항목은 만료 시점에 무시합니다
+ */
+@Slf4j
+@Component
+public class MeetingLifecycleScheduler {
+
+    private static final List<MeetingStatus> OPEN_STATUSES = List.of(MeetingStatus.RECRUITING, MeetingStatus.CONFIRMED);
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 64;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int UPDATE_BATCH_SIZE = 500;
+
+    private final MeetingRepository meetingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration horizon;
+
+    // 아래 상태는 this로 동기화
+    private final HierarchicalTimingWheel<Deadline> wheel =
+            new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+    private final Map<Long, Long> deadlines = new HashMap<>(); // 모임 ID → 현재 유효한 마감 시각(epoch millis)
+    private final List<Deadline> overdue = new ArrayList<>(); // 등록 시점에 이미 마감이 지난 항목
+
+    public MeetingLifecycleScheduler(MeetingRepository meetingRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${meeting.lifecycle.horizon-hours:24}") long horizonHours) {
+        this.meetingRepository = meetingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.horizon = Duration.ofHours(horizonHours);
+    }
+
+    /**
+     * 기동 완료 후 첫 적재 (추천 후보 인덱스 적재 이후)
+     */
+    @Order(InterestMatcher.LOAD_ORDER + 3)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refill();
+    }
+
+    /**
+     * horizon 이내에 마감되는 진행 중 모임을 휠에 적재 (id 기준 keyset 배치, 이미 등록된 마감은 건너뜀)
+     */
+    @Scheduled(fixedRateString = "${meeting.lifecycle.refill-interval-millis:3600000}",
+            initialDelayString = "${meeting.lifecycle.refill-interval-millis:3600000}")
+    public void refill() {
+        LocalDateTime until = LocalDateTime.now().plus(horizon);
+        long lastId = 0L;
+        int loaded = 0;
+        List<MeetingDeadlineView> batch;
+        do {
+            batch = meetingRepository.findDeadlinesBefore(
+                    OPEN_STATUSES, until, lastId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            for (MeetingDeadlineView deadline : batch) {
+                schedule(deadline.getId(), deadline.getMeetingDate());
+                lastId = deadline.getId();
+            }
+            loaded += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        log.info("모임 생명주기 스케줄 적재 완료: {}개 ({} 이전 마감)", loaded, until);
+    }
+
+    /**
+     * 휠을 현재 시각까지 돌리고 마감된 모임을 종료 처리
+     * (다른 재구성 작업에 밀리지 않도록 스케줄링 풀은 작업 수만큼 둠 - spring.task.scheduling.pool.size)
+     */
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void tick() {
+        List<Long> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(System.currentTimeMillis(), deadline -> collect(deadline, due));
+            for (Deadline deadline : overdue) {
+                collect(deadline, due);
+            }
+            overdue.clear();
+        }
+
+        for (int from = 0; from < due.size(); from += UPDATE_BATCH_SIZE) {
+            List<Long> chunk = due.subList(from, Math.min(from + UPDATE_BATCH_SIZE, due.size()));
+            try {
+                complete(chunk);
+            } catch (RuntimeException e) {
+                // 다음 refill 때 다시 적재되어 처리됨
+                log.error("모임 종료 처리 실패: {}개, cause={}", chunk.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 모임 변경 커밋 후 마감 시각 재등록/취소
+     */
+    @TransactionalEventListener
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        MeetingSnapshot after = event.getAfter();
+        if (after == null || !OPEN_STATUSES.contains(after.getStatus()) || after.getMeetingDate() == null
+                || !after.getMeetingDate().isBefore(LocalDateTime.now().plus(horizon))) {
+            cancel(event.getMeetingId());
+            return;
+        }
+        schedule(after.getId(), after.getMeetingDate());
+    }
+
+    /**
+     * 모임 일괄 종료 (한 트랜잭션)
+     * - 변경 전 스냅샷을 먼저 읽고, UPDATE 조건과 같은 기준으로 실제 종료 대상만 이벤트를 발행합니다
+     */
+    private void complete(List<Long> meetingIds) {
+        int completed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MeetingSnapshot> targets = new ArrayList<>(meetingIds.size());
+            for (Meeting meeting : meetingRepository.findAllById(meetingIds)) {
+                if (OPEN_STATUSES.contains(meeting.getStatus()) && meeting.getMeetingDate() != null
+                        && !meeting.getMeetingDate().isAfter(now)) {
+                    targets.add(MeetingSnapshot.from(meeting));
+                }
+            }
+            if (targets.isEmpty()) {
+                return 0;
+            }
+
+            int updated = meetingRepository.updateStatusIfDue(
+                    targets.stream().map(MeetingSnapshot::getId).toList(),
+                    OPEN_STATUSES, MeetingStatus.COMPLETED, now);
+            for (MeetingSnapshot before : targets) {
+                eventPublisher.publishEvent(
+                        MeetingChangedEvent.updated(before, before.withStatus(MeetingStatus.COMPLETED)));
+            }
+            return updated;
+        });
+
+        if (completed > 0) {
+            log.info("모임 날짜가 지난 모임 종료 처리: {}개", completed);
+        }
+    }
+
+    private synchronized void schedule(Long meetingId, LocalDateTime meetingDate) {
+        long expiration = meetingDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Long previous = deadlines.put(meetingId, expiration);
+        if (previous != null && previous == expiration) {
+            return; // 이미 같은 마감으로 등록됨
+        }
+        Deadline deadline = new Deadline(meetingId, expiration);
+        if (!wheel.add(deadline, expiration)) {
+            overdue.add(deadline);
+        }
+    }
+
+    private synchronized void cancel(Long meetingId) {
+        deadlines.remove(meetingId);
+    }
+
+    /**
+     * 현재 유효한 마감일 때만 종료 대상에 추가 (this 동기화 안에서 호출)
+     */
+    private void collect(Deadline deadline, List<Long> due) {
+        if (deadlines.remove(deadline.meetingId(), deadline.expirationMillis())) {
+            due.add(deadline.meetingId());
+        }
+    }
+
+    private record Deadline(Long meetingId, long expirationMillis) {
+    }
+}
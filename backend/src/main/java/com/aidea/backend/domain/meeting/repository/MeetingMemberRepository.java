@@ -3,7 +3,11 @@ package com.aidea.backend.domain.meeting.repository;
 import com.aidea.backend.domain.meeting.entity.MeetingMember;
 import com.aidea.backend.domain.meeting.entity.enums.MemberStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +23,11 @@ public interface MeetingMemberRepository extends JpaRepository<MeetingMember, Lo
      */
     boolean existsByMeetingIdAndUser_UserIdAndStatusNot(Long meetingId, Long userId, MemberStatus status);
 
+    /**
+     * 특정 모임의 여러 사용자 참가 정보 조회 (입장 대기열 배치의 중복 참가 확인용, IN 한 번)
+     */
+    List<MeetingMember> findByMeetingIdAndUser_UserIdIn(Long meetingId, Collection<Long> userIds);
+
     /**
      * 특정 상태의 참가자 목록 조회
      */
@@ -38,4 +47,38 @@ public interface MeetingMemberRepository extends JpaRepository<MeetingMember, Lo
      * 특정 사용자의 모든 모임 참가 정보 조회 (상태 제외)
      */
     List<MeetingMember> findByUser_UserIdAndStatusNot(Long userId, MemberStatus status);
+
+    /**
+     * 대기열 맨 앞 대기자 조회 (신청 순서 = id 오름차순, (meeting_id, status, id) 인덱스로 첫 행만 읽음)
+     */
+    Optional<MeetingMember> findFirstByMeetingIdAndStatusOrderByIdAsc(Long meetingId, MemberStatus status);
+
+    /**
+     * 참가 상태 변경: 현재 상태가 from일 때만 to로 변경 (동시 중복 승인 방지)
+     * - 실행 후 영속성 컨텍스트를 비우므로 필요한 엔티티는 다시 조회해야 합니다
+     *
+     * @return 변경 성공 시 1, 이미 다른 상태면 0
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update MeetingMember mm set mm.status = :to where mm.id = :id and mm.status = :from")
+    int updateStatusIf(
+            @Param("id") Long id,
+            @Param("from") MemberStatus from,
+            @Param("to") MemberStatus to);
+
+    /**
+     * 특정 사용자의 모든 모임 참가 정보 조회 (모임 + 모임 생성자 fetch join)
+     */
+    @Query("select mm from MeetingMember mm join fetch mm.meeting m join fetch m.creator "
+            + "where mm.user.userId = :userId")
+    List<MeetingMember> findWithMeetingByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자의 모든 모임 참가 정보 조회 (상태 제외, 모임 + 모임 생성자 fetch join)
+     */
+    @Query("select mm from MeetingMember mm join fetch mm.meeting m join fetch m.creator "
+            + "where mm.user.userId = :userId and mm.status <> :status")
+    List<MeetingMember> findWithMeetingByUserIdAndStatusNot(
+            @Param("userId") Long userId,
+            @Param("status") MemberStatus status);
 }
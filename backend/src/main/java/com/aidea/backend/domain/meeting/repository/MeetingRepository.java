@@ -1,17 +1,36 @@
 package com.aidea.backend.domain.meeting.repository;
 
+import com.aidea.backend.domain.meeting.dto.projection.MeetingDeadlineView;
+import com.aidea.backend.domain.meeting.dto.projection.MeetingFacetCountView;
+import com.aidea.backend.domain.meeting.dto.projection.MeetingSummaryView;
+import com.aidea.backend.domain.meeting.dto.projection.MeetingTitleView;
 import com.aidea.backend.domain.meeting.entity.Meeting;
 import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
 import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
 import com.aidea.backend.domain.meeting.entity.enums.Region;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
+    // 목록 프로젝션 select 절 (MeetingSummaryView getter 이름과 별칭 일치)
+    String SUMMARY_SELECT = "select m.id as id, m.title as title, m.imageUrl as imageUrl, "
+            + "m.category as category, m.region as region, m.location as location, "
+            + "m.meetingDate as meetingDate, m.currentMembers as currentMembers, "
+            + "m.maxMembers as maxMembers, m.status as status, m.createdAt as createdAt "
+            + "from Meeting m ";
+
     /**
      * 모임 목록 조회 (최신순)
      */
@@ -33,6 +52,20 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
             MeetingStatus status,
             Pageable pageable);
 
+    // ========== 목록 프로젝션 조회 (MeetingSummaryView) ==========
+    Page<MeetingSummaryView> findSummariesByOrderByCreatedAtDesc(Pageable pageable);
+
+    Page<MeetingSummaryView> findSummariesByCategory(MeetingCategory category, Pageable pageable);
+
+    Page<MeetingSummaryView> findSummariesByRegion(Region region, Pageable pageable);
+
+    Page<MeetingSummaryView> findSummariesByCategoryAndRegion(
+            MeetingCategory category,
+            Region region,
+            Pageable pageable);
+
+    List<MeetingSummaryView> findSummariesByIdIn(Collection<Long> ids);
+
     // ========== 카테고리 + 지역 조합 조회 ==========
     Page<Meeting> findByCategoryAndRegion(
             MeetingCategory category,
@@ -45,8 +78,180 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
             MeetingStatus status,
             Pageable pageable);
 
+    // ========== 커서 기반 조회 (최신순, count 쿼리 없음) ==========
+
+    /**
+     * 첫 페이지 (category/region은 null이면 조건 없음)
+     */
+    @Query(SUMMARY_SELECT
+            + "where (:category is null or m.category = :category) "
+            + "and (:region is null or m.region = :region) "
+            + "order by m.createdAt desc, m.id desc")
+    List<MeetingSummaryView> findLatest(
+            @Param("category") MeetingCategory category,
+            @Param("region") Region region,
+            Pageable pageable);
+
+    /**
+     * 커서 (createdAt, id) 이후 페이지
+     */
+    @Query(SUMMARY_SELECT
+            + "where (:category is null or m.category = :category) "
+            + "and (:region is null or m.region = :region) "
+            + "and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :id)) "
+            + "order by m.createdAt desc, m.id desc")
+    List<MeetingSummaryView> findLatestBefore(
+            @Param("category") MeetingCategory category,
+            @Param("region") Region region,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
     /**
      * 특정 사용자가 개설한 모임 목록 조회
      */
     List<Meeting> findByCreator_UserId(Long userId);
+
+    /**
+     * 모임 상세 조회 (생성자 fetch join, 상세 캐시 적재용)
+     */
+    @Query("select m from Meeting m join fetch m.creator where m.id = :id")
+    Optional<Meeting> findWithCreatorById(@Param("id") Long id);
+
+    /**
+     * 여러 모임 상세 조회 (생성자 fetch join, IN 한 번)
+     */
+    @Query("select m from Meeting m join fetch m.creator where m.id in :ids")
+    List<Meeting> findWithCreatorByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 모임 조회 (행 잠금, SELECT ... FOR UPDATE)
+     * - 트랜잭션이 끝날 때까지 다른 좌석 예약/반환이 대기하므로 읽은 현재 인원이 그대로 유지됩니다
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Meeting m where m.id = :id")
+    Optional<Meeting> findForUpdateById(@Param("id") Long id);
+
+    /**
+     * 특정 사용자가 개설한 모임 목록 조회 (생성자 fetch join)
+     */
+    @Query("select m from Meeting m join fetch m.creator c where c.userId = :userId")
+    List<Meeting> findWithCreatorByCreatorUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자가 개설한 모임 ID 목록 (상세 캐시 무효화용)
+     */
+    @Query("select m.id from Meeting m where m.creator.userId = :userId")
+    List<Long> findIdsByCreatorUserId(@Param("userId") Long userId);
+
+    /**
+     * 추천 후보(모집 중 + 정원 미달) 모임을 id 순으로 조회 (keyset 배치 적재용)
+     */
+    @Query("select m from Meeting m where m.status = :status and m.currentMembers < m.maxMembers "
+            + "and m.id > :lastId order by m.id")
+    List<Meeting> findRecruitableAfter(
+            @Param("status") MeetingStatus status,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    // ========== 정원 예약 (조건부 UPDATE) ==========
+
+    /**
+     * 좌석 예약: 정원 미달일 때만 현재 인원 +1
+     * - 조건 검사와 증가가 한 문장으로 처리되어 동시 참가에도 초과 예약되지 않습니다
+     * - 실행 후 영속성 컨텍스트를 비우므로 필요한 엔티티는 다시 조회해야 합니다
+     *
+     * @return 예약 성공 시 1, 정원 초과 시 0
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Meeting m set m.currentMembers = m.currentMembers + 1 "
+            + "where m.id = :id and m.currentMembers < m.maxMembers")
+    int reserveSeat(@Param("id") Long id);
+
+    /**
+     * 좌석 일괄 예약: 남은 좌석이 count 이상일 때만 현재 인원 +count (입장 대기열 배치용)
+     * - 남은 좌석 수는 findForUpdateById로 행을 잠근 뒤 계산해 넘깁니다
+     *
+     * @return 예약 성공 시 1, 좌석 부족 시 0
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Meeting m set m.currentMembers = m.currentMembers + :count "
+            + "where m.id = :id and m.currentMembers + :count <= m.maxMembers")
+    int reserveSeats(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * 좌석 반환: 현재 인원 -1 (최소 1명(생성자) 유지)
+     *
+     * @return 반환 성공 시 1
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Meeting m set m.currentMembers = m.currentMembers - 1 "
+            + "where m.id = :id and m.currentMembers > 1")
+    int releaseSeat(@Param("id") Long id);
+
+    /**
+     * 카테고리 × 지역 × 상태별 모임 수 (패싯 카운터 적재용)
+     */
+    @Query("select m.category as category, m.region as region, m.status as status, count(m) as count "
+            + "from Meeting m group by m.category, m.region, m.status")
+    List<MeetingFacetCountView> countGroupByCategoryAndRegionAndStatus();
+
+    /**
+     * 마감 시각이 until 이전인 진행 중 모임의 (id, 모임 날짜)를 id 순으로 조회 (생명주기 스케줄러 적재용 keyset 배치)
+     */
+    @Query("select m.id as id, m.meetingDate as meetingDate from Meeting m "
+            + "where m.status in :statuses and m.meetingDate < :until and m.id > :lastId order by m.id")
+    List<MeetingDeadlineView> findDeadlinesBefore(
+            @Param("statuses") Collection<MeetingStatus> statuses,
+            @Param("until") LocalDateTime until,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    /**
+     * 모임 날짜가 지난 진행 중 모임 상태 일괄 변경 (생명주기 스케줄러용)
+     * - 조건을 다시 확인하므로 그 사이 날짜가 바뀌었거나 이미 종료된 모임은 건너뜁니다
+     *
+     * @return 변경된 모임 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Meeting m set m.status = :status, m.updatedAt = :now "
+            + "where m.id in :ids and m.status in :from and m.meetingDate <= :now")
+    int updateStatusIfDue(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") Collection<MeetingStatus> from,
+            @Param("status") MeetingStatus status,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 인원이 많은 순 모임 제목 (자동완성 후보 적재용)
+     */
+    @Query("select m.title as title, m.currentMembers as currentMembers from Meeting m "
+            + "where m.status = :status order by m.currentMembers desc, m.id desc")
+    List<MeetingTitleView> findPopularTitles(@Param("status") MeetingStatus status, Pageable pageable);
+
+    /**
+     * 전체 모임을 id 순으로 조회 (검색 색인 적재용 keyset 배치)
+     */
+    @Query("select m from Meeting m where m.id > :lastId order by m.id")
+    List<Meeting> findAllAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 관심사 비트셋이 없는 모임을 id 순으로 조회 (백필용 keyset 배치)
+     */
+    @Query("select m from Meeting m where m.interestMask is null and m.id > :lastId order by m.id")
+    List<Meeting> findUntaggedAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 관심사 비트셋만 갱신 (백필용, 수정 시간은 바꾸지 않음)
+     */
+    @Modifying
+    @Query("update Meeting m set m.interestMask = :interestMask where m.id = :id")
+    int updateInterestMask(@Param("id") Long id, @Param("interestMask") Long interestMask);
+
+    /**
+     * 모든 모임의 관심사 비트셋 초기화 (관심사 비트 매핑이 바뀌었을 때 백필로 다시 태깅)
+     */
+    @Modifying
+    @Query("update Meeting m set m.interestMask = null where m.interestMask is not null")
+    int clearInterestMasks();
 }
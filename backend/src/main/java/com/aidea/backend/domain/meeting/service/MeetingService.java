@@ -1,20 +1,37 @@
 package com.aidea.backend.domain.meeting.service;
 
+import com.aidea.backend.domain.interest.matcher.InterestMatcher;
+import com.aidea.backend.domain.meeting.cache.MeetingDetailCache;
+import com.aidea.backend.domain.meeting.dto.projection.MeetingSummaryView;
 import com.aidea.backend.domain.meeting.dto.request.CreateMeetingRequest;
+import com.aidea.backend.domain.meeting.dto.request.MeetingCursor;
+import com.aidea.backend.domain.meeting.dto.request.NearbyCursor;
+import com.aidea.backend.domain.meeting.dto.response.CursorResponse;
 import com.aidea.backend.domain.meeting.dto.response.MeetingResponse;
 import com.aidea.backend.domain.meeting.dto.response.MeetingSummaryResponse;
+import com.aidea.backend.domain.meeting.dto.response.NearbyMeetingResponse;
 import com.aidea.backend.domain.meeting.entity.Meeting;
 import com.aidea.backend.domain.meeting.entity.MeetingMember;
 import com.aidea.backend.domain.meeting.entity.enums.MemberRole;
 import com.aidea.backend.domain.meeting.entity.enums.MemberStatus;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.meeting.event.WaitlistPromotedEvent;
 import com.aidea.backend.domain.meeting.repository.MeetingMemberRepository;
 import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import com.aidea.backend.domain.recommendation.index.RecruitingMeetingIndex;
+import com.aidea.backend.domain.search.index.SearchHits;
+import com.aidea.backend.domain.search.service.MeetingSearchService;
 import com.aidea.backend.domain.user.entity.User;
 import com.aidea.backend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -28,6 +45,20 @@ public class MeetingService {
     private final MeetingRepository meetingRepository;
     private final MeetingMemberRepository meetingMemberRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InterestMatcher interestMatcher;
+    private final MeetingDetailCache meetingDetailCache;
+    private final MeetingSearchService meetingSearchService;
+    private final RecruitingMeetingIndex recruitingMeetingIndex;
+
+    // 커서 조회 최대 페이지 크기
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // 일괄 상세 조회 최대 ID 수
+    private static final int MAX_BATCH_SIZE = 50;
+
+    // 주변 모임 검색 최대 반경
+    private static final double MAX_NEARBY_RADIUS_METERS = 20_000.0;
 
     /**
      * 모임 생성
@@ -56,6 +87,8 @@ public class MeetingService {
                 .isApprovalRequired(request.getIsApprovalRequired())
                 .creator(user)
                 .build();
+        meeting.updateInterestMask(
+                interestMatcher.tag(meeting.getCategory(), meeting.getTitle(), meeting.getDescription()));
 
         Meeting savedMeeting = meetingRepository.save(meeting);
 
@@ -68,6 +101,7 @@ public class MeetingService {
                 .build();
 
         meetingMemberRepository.save(hostMember);
+        eventPublisher.publishEvent(MeetingChangedEvent.created(savedMeeting));
 
         // 4. Response 반환
         return savedMeeting.toResponse();
@@ -75,20 +109,63 @@ public class MeetingService {
 
     /**
      * 모임 상세 조회
+     * - 로컬/Redis 상세 캐시를 먼저 확인하고, 없을 때만 생성자 fetch join 한 번으로 조회합니다
+     * - 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다 (모임 변경 커밋 후 캐시 무효화)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MeetingResponse getMeetingById(Long meetingId) {
-        Meeting meeting = meetingRepository.findById(meetingId)
+        return meetingDetailCache.get(meetingId, this::loadMeetingResponse);
+    }
+
+    private MeetingResponse loadMeetingResponse(Long meetingId) {
+        Meeting meeting = meetingRepository.findWithCreatorById(meetingId)
                 .orElseThrow(() -> new RuntimeException("모임을 찾을 수 없습니다."));
 
         return meeting.toResponse();
     }
 
+    /**
+     * 모임 상세 일괄 조회 (숏폼 피드용)
+     * - 상세 캐시에서 먼저 찾고, 없는 모임만 생성자 fetch join IN 쿼리 한 번으로 조회합니다
+     * - 요청한 순서대로 반환하며 중복 ID는 한 번만, 존재하지 않는 모임은 제외합니다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public java.util.List<MeetingResponse> getMeetingsByIds(java.util.List<Long> meetingIds) {
+        java.util.List<Long> ids = meetingIds.stream()
+                .filter(java.util.Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 모임은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+        if (ids.isEmpty()) {
+            return java.util.List.of();
+        }
+
+        java.util.Map<Long, MeetingResponse> found = meetingDetailCache.getAll(ids, misses -> {
+            java.util.Map<Long, MeetingResponse> loaded = new java.util.HashMap<>();
+            for (Meeting meeting : meetingRepository.findWithCreatorByIdIn(misses)) {
+                loaded.put(meeting.getId(), meeting.toResponse());
+            }
+            return loaded;
+        });
+
+        java.util.List<MeetingResponse> responses = new java.util.ArrayList<>(ids.size());
+        for (Long meetingId : ids) {
+            MeetingResponse response = found.get(meetingId);
+            if (response != null) {
+                responses.add(response);
+            }
+        }
+        return responses;
+    }
+
     /**
      * 모임 목록 조회 (페이징)
      */
     public Page<MeetingSummaryResponse> getAllMeetings(Pageable pageable) {
-        Page<Meeting> meetings = meetingRepository.findAllByOrderByCreatedAtDesc(pageable);
-        return meetings.map(Meeting::toSummary);
+        Page<MeetingSummaryView> meetings = meetingRepository.findSummariesByOrderByCreatedAtDesc(pageable);
+        return meetings.map(MeetingSummaryResponse::from);
     }
 
     /**
@@ -97,30 +174,145 @@ public class MeetingService {
      * - region만 있음 → region 조회
      * - 둘 다 있음 → category AND region 조회
      * - 둘 다 없음 → 전체 조회
+     * - 검색어(q)가 있으면 제목/설명 키워드 검색 결과에 위 조건을 함께 적용 (관련도 순)
      */
     public Page<MeetingSummaryResponse> searchMeetings(
             com.aidea.backend.domain.meeting.entity.enums.MeetingCategory category,
             com.aidea.backend.domain.meeting.entity.enums.Region region,
+            String q,
             Pageable pageable) {
 
-        Page<Meeting> meetings;
+        if (q != null && !q.isBlank()) {
+            return searchMeetingsByKeyword(category, region, q, pageable);
+        }
+
+        Page<MeetingSummaryView> meetings;
 
-        // 조건에 따른 분기 처리
+        // 조건에 따른 분기 처리 (요약 컬럼만 프로젝션 조회)
         if (category != null && region != null) {
             // 둘 다 있음 → AND 조건
-            meetings = meetingRepository.findByCategoryAndRegion(category, region, pageable);
+            meetings = meetingRepository.findSummariesByCategoryAndRegion(category, region, pageable);
         } else if (category != null) {
             // category만 있음
-            meetings = meetingRepository.findByCategory(category, pageable);
+            meetings = meetingRepository.findSummariesByCategory(category, pageable);
         } else if (region != null) {
             // region만 있음
-            meetings = meetingRepository.findByRegion(region, pageable);
+            meetings = meetingRepository.findSummariesByRegion(region, pageable);
         } else {
             // 둘 다 없음 → 전체 조회
-            meetings = meetingRepository.findAllByOrderByCreatedAtDesc(pageable);
+            meetings = meetingRepository.findSummariesByOrderByCreatedAtDesc(pageable);
         }
 
-        return meetings.map(Meeting::toSummary);
+        return meetings.map(MeetingSummaryResponse::from);
+    }
+
+    /**
+     * 키워드 검색: 검색 색인에서 순위와 전체 수를 구하고, 해당 페이지 모임만 IN 조회 후 순위대로 정렬
+     */
+    private Page<MeetingSummaryResponse> searchMeetingsByKeyword(
+            com.aidea.backend.domain.meeting.entity.enums.MeetingCategory category,
+            com.aidea.backend.domain.meeting.entity.enums.Region region,
+            String q,
+            Pageable pageable) {
+        SearchHits hits = meetingSearchService.search(
+                q, category, region, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(java.util.List.of(), pageable, hits.total());
+        }
+
+        java.util.Map<Long, MeetingSummaryView> byId = new java.util.HashMap<>();
+        for (MeetingSummaryView view : meetingRepository.findSummariesByIdIn(hits.ids())) {
+            byId.put(view.getId(), view);
+        }
+        java.util.List<MeetingSummaryResponse> content = new java.util.ArrayList<>(hits.ids().size());
+        for (Long meetingId : hits.ids()) {
+            MeetingSummaryView view = byId.get(meetingId);
+            if (view != null) {
+                content.add(MeetingSummaryResponse.from(view));
+            }
+        }
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+
+    /**
+     * 모임 목록/검색 (커서 기반)
+     * - (createdAt, id) 내림차순 keyset 조회로 offset 스캔과 count 쿼리 없이 다음 페이지를 가져옵니다
+     * - size + 1개를 조회해 다음 페이지 존재 여부를 판단합니다
+     */
+    public CursorResponse<MeetingSummaryResponse> getMeetingsByCursor(
+            com.aidea.backend.domain.meeting.entity.enums.MeetingCategory category,
+            com.aidea.backend.domain.meeting.entity.enums.Region region,
+            String cursor,
+            int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+        MeetingCursor after = MeetingCursor.decode(cursor);
+
+        java.util.List<MeetingSummaryView> meetings = after == null
+                ? meetingRepository.findLatest(category, region, limit)
+                : meetingRepository.findLatestBefore(category, region, after.getCreatedAt(), after.getId(), limit);
+
+        String nextCursor = null;
+        if (meetings.size() > pageSize) {
+            meetings = meetings.subList(0, pageSize);
+            MeetingSummaryView last = meetings.get(pageSize - 1);
+            nextCursor = MeetingCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorResponse.of(meetings.stream().map(MeetingSummaryResponse::from).toList(), nextCursor);
+    }
+
+    /**
+     * 주변 모임 조회 (거리순, 커서 기반)
+     * - 추천 후보 인덱스(모집 중 + 정원 미달, 좌표 보유)의 격자 검색으로 반경을 덮는 셀만 방문하며 DB를 조회하지 않습니다
+     * - 커서 이후 후보 중 가까운 size + 1개만 힙에 유지해 다음 페이지 존재 여부를 판단합니다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorResponse<NearbyMeetingResponse> getNearbyMeetings(
+            double latitude,
+            double longitude,
+            double radiusMeters,
+            com.aidea.backend.domain.meeting.entity.enums.MeetingCategory category,
+            String cursor,
+            int size) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("잘못된 좌표입니다.");
+        }
+        double radius = Math.max(0, Math.min(radiusMeters, MAX_NEARBY_RADIUS_METERS));
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        NearbyCursor after = NearbyCursor.decode(cursor);
+
+        // 가장 먼 후보가 맨 위에 오는 최대 힙 (distance DESC, id DESC)
+        java.util.PriorityQueue<NearbyMeetingResponse> nearest = new java.util.PriorityQueue<>(
+                java.util.Comparator.comparingDouble(NearbyMeetingResponse::getDistanceMeters)
+                        .thenComparing(response -> response.getMeeting().getMeetingId())
+                        .reversed());
+        recruitingMeetingIndex.forEachWithin(latitude, longitude, radius, (meetingId, distance) -> {
+            if (after != null && !after.isBefore(distance, meetingId)) {
+                return;
+            }
+            MeetingSnapshot snapshot = recruitingMeetingIndex.get(meetingId);
+            if (snapshot == null || (category != null && snapshot.getCategory() != category)) {
+                return;
+            }
+            NearbyMeetingResponse candidate = NearbyMeetingResponse.of(snapshot, distance);
+            if (nearest.size() <= pageSize) {
+                nearest.add(candidate);
+            } else if (nearest.comparator().compare(candidate, nearest.peek()) > 0) {
+                nearest.poll();
+                nearest.add(candidate);
+            }
+        });
+
+        java.util.List<NearbyMeetingResponse> meetings = new java.util.ArrayList<>(nearest);
+        meetings.sort(nearest.comparator().reversed());
+
+        String nextCursor = null;
+        if (meetings.size() > pageSize) {
+            meetings = meetings.subList(0, pageSize);
+            NearbyMeetingResponse last = meetings.get(pageSize - 1);
+            nextCursor = NearbyCursor.of(last.getDistanceMeters(), last.getMeeting().getMeetingId()).encode();
+        }
+        return CursorResponse.of(meetings, nextCursor);
     }
 
     /**
@@ -140,7 +332,9 @@ public class MeetingService {
         }
 
         // 3. 삭제 (MeetingMember는 Cascade로 자동 삭제)
+        MeetingSnapshot before = MeetingSnapshot.from(meeting);
         meetingRepository.delete(meeting);
+        eventPublisher.publishEvent(MeetingChangedEvent.deleted(before));
     }
 
     /**
@@ -161,9 +355,19 @@ public class MeetingService {
         }
 
         // 3. 업데이트
+        MeetingSnapshot before = MeetingSnapshot.from(meeting);
+        int previousMaxMembers = meeting.getMaxMembers();
         meeting.update(request);
+        meeting.updateInterestMask(
+                interestMatcher.tag(meeting.getCategory(), meeting.getTitle(), meeting.getDescription()));
+
+        // 4. 정원이 늘었으면 새로 생긴 빈자리만큼 대기자 승격 (좌석 예약 UPDATE 전에 수정 내용이 flush됨)
+        if (meeting.getMaxMembers() > previousMaxMembers) {
+            meeting = promoteWaitlisted(meeting, meeting.getMaxMembers() - meeting.getCurrentMembers());
+        }
+        eventPublisher.publishEvent(MeetingChangedEvent.updated(before, meeting));
 
-        // 4. Response 반환 (변경 감지로 자동 저장)
+        // 5. Response 반환 (변경 감지로 자동 저장)
         return meeting.toResponse();
     }
 
@@ -178,30 +382,40 @@ public class MeetingService {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new RuntimeException("모임을 찾을 수 없습니다."));
 
-        // 2. User 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        // 3. 중복 참가 확인 (LEFT 상태 제외)
+        // 2. 중복 참가 확인 (LEFT 상태 제외)
         if (meetingMemberRepository.existsByMeetingIdAndUser_UserIdAndStatusNot(
                 meetingId, userId, MemberStatus.LEFT)) {
             throw new RuntimeException("이미 참가 신청한 모임입니다.");
         }
 
-        // 4. 정원 확인 (승인된 멤버 수 기준)
-        if (meeting.isFull()) {
-            throw new RuntimeException("모임 정원이 가득 찼습니다.");
+        // 3. 정원 확인 (정원 초과 시 대기열 등록)
+        // - 자동 승인: 조건부 UPDATE로 좌석을 원자적으로 예약 (실패 시 정원 초과)
+        // - 승인 필요: 신청만 받으므로 조회 시점 기준으로 확인
+        MeetingSnapshot before = MeetingSnapshot.from(meeting);
+        boolean autoApproved = !meeting.getIsApprovalRequired();
+        boolean seated = false;
+        boolean waitlisted;
+        if (autoApproved) {
+            seated = meetingRepository.reserveSeat(meetingId) == 1;
+            waitlisted = !seated;
+            meeting = reloadMeeting(meetingId);
+        } else {
+            waitlisted = meeting.isFull();
         }
 
+        // 4. User 조회
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
         // 5. MeetingMember 생성
-        MeetingMember member = MeetingMember.createMember(
-                meeting, user, meeting.getIsApprovalRequired());
+        MeetingMember member = waitlisted
+                ? MeetingMember.createWaitlisted(meeting, user)
+                : MeetingMember.createMember(meeting, user, meeting.getIsApprovalRequired());
 
         MeetingMember savedMember = meetingMemberRepository.save(member);
 
-        // 6. 자동 승인인 경우 currentMembers 증가
-        if (!meeting.getIsApprovalRequired()) {
-            meeting.incrementMembers();
+        if (seated) {
+            eventPublisher.publishEvent(MeetingChangedEvent.updated(before, meeting));
         }
 
         return savedMember.toMemberResponse();
@@ -253,20 +467,27 @@ public class MeetingService {
             throw new RuntimeException("권한이 없습니다.");
         }
 
-        // 3. MeetingMember 조회
+        // 3. MeetingMember 조회 (이 모임의 승인 대기 신청만 승인 가능, 대기자는 대기열 순서대로 승격됨)
         MeetingMember member = meetingMemberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("참가 신청을 찾을 수 없습니다."));
-
-        // 4. 정원 확인
-        if (meeting.isFull()) {
-            throw new RuntimeException("모임 정원이 가득 찼습니다.");
+        if (!member.getMeeting().getId().equals(meetingId)) {
+            throw new RuntimeException("참가 신청을 찾을 수 없습니다.");
+        }
+        if (member.getStatus() != MemberStatus.PENDING) {
+            throw new RuntimeException("승인 대기 중인 신청이 아닙니다.");
         }
 
-        // 5. 승인 처리
-        member.approve();
-        meeting.incrementMembers();
+        // 4. 승인 처리 + 좌석 예약 (조건부 UPDATE로 중복 승인 방지, 정원 초과 시 예외로 승인까지 롤백)
+        MeetingSnapshot before = MeetingSnapshot.from(meeting);
+        if (meetingMemberRepository.updateStatusIf(memberId, MemberStatus.PENDING, MemberStatus.APPROVED) == 0) {
+            throw new RuntimeException("승인 대기 중인 신청이 아닙니다.");
+        }
+        meeting = reserveSeat(meetingId);
+        eventPublisher.publishEvent(MeetingChangedEvent.updated(before, meeting));
 
-        return member.toMemberResponse();
+        return meetingMemberRepository.findById(memberId)
+                .orElseThrow(() -> new RuntimeException("참가 신청을 찾을 수 없습니다."))
+                .toMemberResponse();
     }
 
     /**
@@ -283,12 +504,20 @@ public class MeetingService {
             throw new RuntimeException("권한이 없습니다.");
         }
 
-        // 3. MeetingMember 조회
+        // 3. MeetingMember 조회 (이 모임의 승인 대기 신청만 거절 가능 - 승인된 멤버를 거절로 바꾸면 좌석이 반환되지 않음)
         MeetingMember member = meetingMemberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("참가 신청을 찾을 수 없습니다."));
+        if (!member.getMeeting().getId().equals(meetingId)) {
+            throw new RuntimeException("참가 신청을 찾을 수 없습니다.");
+        }
+        if (member.getStatus() != MemberStatus.PENDING) {
+            throw new RuntimeException("승인 대기 중인 신청이 아닙니다.");
+        }
 
-        // 4. 거절 처리
-        member.reject();
+        // 4. 거절 처리 (조건부 UPDATE로 동시에 승인된 신청은 거절하지 않음)
+        if (meetingMemberRepository.updateStatusIf(memberId, MemberStatus.PENDING, MemberStatus.REJECTED) == 0) {
+            throw new RuntimeException("승인 대기 중인 신청이 아닙니다.");
+        }
     }
 
     /**
@@ -309,9 +538,14 @@ public class MeetingService {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new RuntimeException("모임을 찾을 수 없습니다."));
 
-        // 4. 탈퇴 처리
+        // 4. 탈퇴 처리 (승인된 멤버였을 때만 좌석 반환 후 대기자 승격)
+        MeetingSnapshot before = MeetingSnapshot.from(meeting);
+        boolean heldSeat = member.getStatus() == MemberStatus.APPROVED;
         member.leave();
-        meeting.decrementMembers();
+        if (heldSeat) {
+            meeting = promoteWaitlisted(releaseSeat(meetingId), 1);
+        }
+        eventPublisher.publishEvent(MeetingChangedEvent.updated(before, meeting));
     }
 
     /**
@@ -337,8 +571,71 @@ public class MeetingService {
             throw new RuntimeException("모임장은 퇴출할 수 없습니다.");
         }
 
-        // 5. 퇴출 처리
+        // 5. 퇴출 처리 (승인된 멤버였을 때만 좌석 반환 후 대기자 승격)
+        MeetingSnapshot before = MeetingSnapshot.from(meeting);
+        boolean heldSeat = member.getStatus() == MemberStatus.APPROVED;
         member.leave();
-        meeting.decrementMembers();
+        if (heldSeat) {
+            meeting = promoteWaitlisted(releaseSeat(meetingId), 1);
+        }
+        eventPublisher.publishEvent(MeetingChangedEvent.updated(before, meeting));
+    }
+
+    // ========== 정원 예약 ==========
+
+    /**
+     * 좌석 예약 후 갱신된 모임 반환
+     * - 조건부 UPDATE가 영속성 컨텍스트를 비우므로 모임을 다시 조회합니다
+     */
+    private Meeting reserveSeat(Long meetingId) {
+        if (meetingRepository.reserveSeat(meetingId) == 0) {
+            throw new RuntimeException("모임 정원이 가득 찼습니다.");
+        }
+        return reloadMeeting(meetingId);
+    }
+
+    /**
+     * 좌석 반환 후 갱신된 모임 반환
+     */
+    private Meeting releaseSeat(Long meetingId) {
+        meetingRepository.releaseSeat(meetingId);
+        return reloadMeeting(meetingId);
+    }
+
+    /**
+     * 대기열 앞쪽부터 최대 count명 승격 (자리가 난 트랜잭션 안에서 호출)
+     * - 자동 승인 모임: 좌석을 다시 예약하고 APPROVED로 전환 (동시 참가가 자리를 먼저 가져갔으면 거기서 멈춤)
+     * - 승인 필요 모임: PENDING으로 전환 (HOST 승인 시 좌석 예약)
+     */
+    private Meeting promoteWaitlisted(Meeting meeting, int count) {
+        Long meetingId = meeting.getId();
+        boolean approvalRequired = meeting.getIsApprovalRequired();
+        for (int i = 0; i < count; i++) {
+            java.util.Optional<MeetingMember> head = meetingMemberRepository
+                    .findFirstByMeetingIdAndStatusOrderByIdAsc(meetingId, MemberStatus.WAITLISTED);
+            if (head.isEmpty()) {
+                break;
+            }
+
+            Long memberId = head.get().getId();
+            if (!approvalRequired) {
+                if (meetingRepository.reserveSeat(meetingId) == 0) {
+                    return reloadMeeting(meetingId);
+                }
+                meeting = reloadMeeting(meetingId);
+            }
+
+            MeetingMember promoted = meetingMemberRepository.findById(memberId)
+                    .orElseThrow(() -> new RuntimeException("참가자를 찾을 수 없습니다."));
+            promoted.promote(approvalRequired);
+            eventPublisher.publishEvent(new WaitlistPromotedEvent(
+                    meetingId, memberId, promoted.getUser().getUserId(), promoted.getStatus()));
+        }
+        return meeting;
+    }
+
+    private Meeting reloadMeeting(Long meetingId) {
+        return meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new RuntimeException("모임을 찾을 수 없습니다."));
     }
 }
@@ -1,11 +1,38 @@
 package com.aidea.backend.domain.notification.service;
 
+import com.aidea.backend.domain.meeting.event.WaitlistPromotedEvent;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Map;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationService {
+
+    private static final String WAITLIST_TOPIC_PREFIX = "/topic/waitlist/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 대기자 승격 알림 (커밋 이후 /topic/waitlist/{memberId}로 푸시)
+     * - 대기 중인 클라이언트가 모임 상세를 반복 조회하지 않도록 승격 시점에 한 번만 전달합니다
+     */
+    @TransactionalEventListener
+    public void onWaitlistPromoted(WaitlistPromotedEvent event) {
+        try {
+            messagingTemplate.convertAndSend(WAITLIST_TOPIC_PREFIX + event.getMemberId(), Map.of(
+                    "meetingId", event.getMeetingId(),
+                    "memberId", event.getMemberId(),
+                    "status", event.getStatus()));
+        } catch (RuntimeException e) {
+            log.warn("대기자 승격 알림 실패: memberId={}, cause={}", event.getMemberId(), e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,185 @@
+package com.aidea.backend.domain.recommendation.cache;
+
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.recommendation.scoring.ScoringContext;
+import com.aidea.backend.domain.user.event.UserPreferenceChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 추천 결과 캐시 (Redis)
+ * - 사용자 + limit 단위로 순위가 매겨진 모임 ID 목록을 짧은 TTL로 보관합니다
+ * - 사용자 관심사/위치가 바뀌면 해당 사용자 항목만 삭제합니다
+ * - 모임이 생성/마감(정원 충족, 모집 종료)/삭제되면 그 지역 × 카테고리 슬라이스에 등록된 항목만 삭제합니다
+ *   (슬라이스 등록: 결과에 포함된 모임의 슬라이스 + 사용자가 관심사/지역 점수를 받는 슬라이스)
+ */
+@Slf4j
+@Component
+public class RecommendationCache {
+
+  private static final String RESULT_KEY_PREFIX = "recommendation:result:";
+  private static final String USER_KEY_PREFIX = "recommendation:user:";
+  private static final String SLICE_KEY_PREFIX = "recommendation:slice:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final Duration ttl;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public RecommendationCache(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+      @Value("${recommendation.cache.ttl-seconds:60}") long ttlSeconds) {
+    this.redisTemplate = redisTemplate;
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+    this.hitCounter = meterRegistry.counter("recommendation.cache.requests", "result", "hit");
+    this.missCounter = meterRegistry.counter("recommendation.cache.requests", "result", "miss");
+  }
+
+  /**
+   * 캐시된 추천 모임 ID 목록 조회
+   *
+   * @return 순위 순 모임 ID 목록, 캐시에 없으면 null
+   */
+  public List<Long> get(String email, int limit) {
+    String value;
+    try {
+      value = redisTemplate.opsForValue().get(resultKey(email, limit));
+    } catch (RuntimeException e) {
+      log.warn("추천 캐시 조회 실패: email={}, cause={}", email, e.getMessage());
+      missCounter.increment();
+      return null;
+    }
+
+    if (value == null) {
+      missCounter.increment();
+      return null;
+    }
+
+    hitCounter.increment();
+    List<Long> ids = new ArrayList<>();
+    for (String token : value.split(",")) {
+      if (!token.isEmpty()) {
+        ids.add(Long.parseLong(token));
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * 추천 결과 저장 및 무효화용 슬라이스 등록 (SET / SADD / EXPIRE 전체를 파이프라인 한 번으로 전송)
+   */
+  public void put(String email, int limit, List<MeetingSnapshot> winners, ScoringContext context) {
+    String resultKey = resultKey(email, limit);
+    StringBuilder value = new StringBuilder();
+    for (MeetingSnapshot meeting : winners) {
+      if (value.length() > 0) {
+        value.append(',');
+      }
+      value.append(meeting.getId());
+    }
+
+    List<String> indexKeys = new ArrayList<>();
+    indexKeys.add(USER_KEY_PREFIX + email);
+    indexKeys.addAll(dependentSlices(winners, context));
+
+    try {
+      redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        StringRedisConnection commands = (StringRedisConnection) connection;
+        commands.setEx(resultKey, ttl.getSeconds(), value.toString());
+        for (String indexKey : indexKeys) {
+          commands.sAdd(indexKey, resultKey);
+          commands.expire(indexKey, ttl.getSeconds());
+        }
+        return null;
+      });
+    } catch (RuntimeException e) {
+      log.warn("추천 캐시 저장 실패: email={}, cause={}", email, e.getMessage());
+    }
+  }
+
+  /**
+   * 사용자 관심사/위치 변경 시 해당 사용자의 캐시만 삭제
+   */
+  @TransactionalEventListener
+  public void onUserPreferenceChanged(UserPreferenceChangedEvent event) {
+    evictMembersOf(USER_KEY_PREFIX + event.getEmail());
+  }
+
+  /**
+   * 모임 생성/마감/삭제 시 해당 슬라이스에 등록된 캐시만 삭제
+   */
+  @TransactionalEventListener
+  public void onMeetingChanged(MeetingChangedEvent event) {
+    MeetingSnapshot before = event.getBefore();
+    MeetingSnapshot after = event.getAfter();
+    boolean wasCandidate = before != null && before.isRecruitable();
+    boolean isCandidate = after != null && after.isRecruitable();
+
+    boolean moved = wasCandidate && isCandidate
+        && (before.getRegion() != after.getRegion() || before.getCategory() != after.getCategory());
+    if (wasCandidate == isCandidate && !moved) {
+      return; // 후보 집합 구성에 변화 없음 (인원 변동 등은 TTL로 수렴)
+    }
+
+    if (before != null) {
+      evictMembersOf(sliceKey(before.getRegion(), before.getCategory()));
+    }
+    if (after != null) {
+      evictMembersOf(sliceKey(after.getRegion(), after.getCategory()));
+    }
+  }
+
+  private void evictMembersOf(String indexKey) {
+    try {
+      Set<String> resultKeys = redisTemplate.opsForSet().members(indexKey);
+      if (resultKeys != null && !resultKeys.isEmpty()) {
+        redisTemplate.delete(resultKeys);
+      }
+      redisTemplate.delete(indexKey);
+    } catch (RuntimeException e) {
+      log.warn("추천 캐시 무효화 실패: key={}, cause={}", indexKey, e.getMessage());
+    }
+  }
+
+  /**
+   * 결과가 의존하는 슬라이스: 결과 모임의 슬라이스 + 관심사/지역 점수를 받는 슬라이스
+   */
+  private Set<String> dependentSlices(List<MeetingSnapshot> winners, ScoringContext context) {
+    Set<String> slices = new LinkedHashSet<>();
+    for (MeetingSnapshot meeting : winners) {
+      slices.add(sliceKey(meeting.getRegion(), meeting.getCategory()));
+    }
+    for (Region region : Region.values()) {
+      boolean nearby = context.isNearby(region);
+      for (MeetingCategory category : MeetingCategory.values()) {
+        if (nearby || context.isCategoryMatched(category)) {
+          slices.add(sliceKey(region, category));
+        }
+      }
+    }
+    return slices;
+  }
+
+  private static String resultKey(String email, int limit) {
+    return RESULT_KEY_PREFIX + email + ":" + limit;
+  }
+
+  private static String sliceKey(Region region, MeetingCategory category) {
+    return SLICE_KEY_PREFIX + region.name() + ":" + category.name();
+  }
+}
@@ -1,6 +1,6 @@
 package com.aidea.backend.domain.recommendation.dto;
 
-import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,7 +15,7 @@ import lombok.NoArgsConstructor;
 @Builder
 public class MeetingRecommendationDto implements Comparable<MeetingRecommendationDto> {
 
-  private Meeting meeting;
+  private MeetingSnapshot meeting;
   private double score;
   private String reason; // 추천 이유 (디버깅용)
 
@@ -0,0 +1,187 @@
+package com.aidea.backend.domain.recommendation.index;
+
+import com.aidea.backend.domain.interest.matcher.InterestMatcher;
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import com.aidea.backend.global.geo.GeoGridIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 추천 후보 모임 인메모리 인덱스
+ * - 모집 중(RECRUITING)이면서 정원이 차지 않은 모임만 보관합니다
+ * - 좌표가 있는 모임은 격자 인덱스에도 보관합니다
+ * - 기동 시 한 번 적재한 뒤 MeetingChangedEvent로 증분 갱신하므로, 추천 요청은 meeting 테이블을 스캔하지 않습니다
+ * - 다른 인스턴스의 변경은 이벤트로 오지 않으므로 rebuild 주기마다 전체를 다시 적재해 교체합니다
+ * - 원소는 설명을 뺀 스냅샷이며, 관심사 비트셋이 비어 있으면(백필 전) 적재 시점에 태깅해 채웁니다
+ * - 전체 후보 목록은 불변 리스트로 만들어 두고 변경이 있을 때만 다시 만듭니다 (요청마다 복사하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecruitingMeetingIndex {
+
+  private static final int LOAD_BATCH_SIZE = 1000;
+  private static final double GRID_CELL_DEGREES = 0.01; // 약 1.1km
+
+  private final MeetingRepository meetingRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final InterestMatcher interestMatcher;
+
+  private volatile State state = new State();
+  private List<MeetingChangedEvent> pending; // 재적재 중 들어온 이벤트 (this로 동기화)
+
+  /**
+   * 애플리케이션 기동 완료 후 후보 모임 적재 (관심사 비트셋 백필 이후)
+   */
+  @Order(InterestMatcher.LOAD_ORDER + 2)
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    rebuild();
+  }
+
+  /**
+   * 전체 재적재 후 교체 (id 기준 keyset 배치)
+   * - 적재하는 동안 들어온 이벤트는 모아 두었다가 새 인덱스에 다시 반영한 뒤 교체합니다
+   */
+  @Scheduled(fixedRateString = "${recommendation.index.rebuild-interval-millis:300000}",
+      initialDelayString = "${recommendation.index.rebuild-interval-millis:300000}")
+  public void rebuild() {
+    synchronized (this) {
+      pending = new ArrayList<>();
+    }
+    State rebuilt = new State();
+    try {
+      long lastId = 0L;
+      List<Meeting> batch;
+      do {
+        batch = meetingRepository.findRecruitableAfter(
+            MeetingStatus.RECRUITING, lastId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+        for (Meeting meeting : batch) {
+          rebuilt.upsert(toEntry(MeetingSnapshot.from(meeting)));
+          lastId = meeting.getId();
+        }
+      } while (batch.size() == LOAD_BATCH_SIZE);
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        pending = null;
+      }
+      throw e;
+    }
+
+    synchronized (this) {
+      pending.forEach(event -> apply(rebuilt, event));
+      pending = null;
+      state = rebuilt;
+    }
+    log.info("추천 후보 인덱스 적재 완료: {}개", rebuilt.byId.size());
+    eventPublisher.publishEvent(new RecruitingMeetingIndexRebuiltEvent(rebuilt.byId.size()));
+  }
+
+  /**
+   * 모임 변경 커밋 후 인덱스 반영
+   */
+  @TransactionalEventListener
+  public synchronized void onMeetingChanged(MeetingChangedEvent event) {
+    apply(state, event);
+    if (pending != null) {
+      pending.add(event);
+    }
+  }
+
+  /**
+   * 전체 후보 목록 (불변, 마지막 변경 이후 처음 호출될 때 한 번만 만듦)
+   */
+  public List<MeetingSnapshot> getCandidates() {
+    State current = state;
+    List<MeetingSnapshot> candidates = current.candidates;
+    if (candidates != null) {
+      return candidates;
+    }
+    synchronized (this) {
+      // 갱신과 같은 잠금 안에서 만들어야 만드는 도중의 변경이 무효화되지 않고 남음
+      if (current.candidates == null) {
+        current.candidates = List.copyOf(current.byId.values());
+      }
+      return current.candidates;
+    }
+  }
+
+  /**
+   * 중심 좌표 반경 이내의 후보를 거리와 함께 전달 (반경을 덮는 격자 셀만 방문)
+   */
+  public void forEachWithin(double latitude, double longitude, double radiusMeters,
+      GeoGridIndex.DistanceConsumer consumer) {
+    state.geoGrid.forEachWithin(latitude, longitude, radiusMeters, consumer);
+  }
+
+  public MeetingSnapshot get(Long meetingId) {
+    return state.byId.get(meetingId);
+  }
+
+  public int size() {
+    return state.byId.size();
+  }
+
+  private void apply(State target, MeetingChangedEvent event) {
+    MeetingSnapshot after = event.getAfter();
+    if (after != null && after.isRecruitable()) {
+      target.upsert(toEntry(after));
+    } else {
+      target.remove(event.getMeetingId());
+    }
+  }
+
+  /**
+   * 인덱스 원소 (설명 제거 + 관심사 비트셋 확정)
+   */
+  private MeetingSnapshot toEntry(MeetingSnapshot snapshot) {
+    Long interestMask = snapshot.getInterestMask();
+    return snapshot.forIndex(interestMask != null ? interestMask
+        : interestMatcher.tag(snapshot.getCategory(), snapshot.getTitle(), snapshot.getDescription()));
+  }
+
+  /**
+   * 교체 단위 (ID 맵 + 격자 인덱스 + 후보 목록)
+   * - 갱신은 모두 인덱스 잠금 안에서 이루어집니다
+   */
+  private static class State {
+
+    private final Map<Long, MeetingSnapshot> byId = new ConcurrentHashMap<>();
+    private final GeoGridIndex geoGrid = new GeoGridIndex(GRID_CELL_DEGREES);
+    private volatile List<MeetingSnapshot> candidates; // 변경 시 null로 비우고 다음 조회 때 다시 만듦
+
+    private void upsert(MeetingSnapshot snapshot) {
+      candidates = null;
+      byId.put(snapshot.getId(), snapshot);
+      if (snapshot.hasCoordinates()) {
+        geoGrid.put(snapshot.getId(), snapshot.getLatitude(), snapshot.getLongitude());
+      } else {
+        geoGrid.remove(snapshot.getId());
+      }
+    }
+
+    private void remove(Long meetingId) {
+      if (byId.remove(meetingId) != null) {
+        candidates = null;
+        geoGrid.remove(meetingId);
+      }
+    }
+  }
+}
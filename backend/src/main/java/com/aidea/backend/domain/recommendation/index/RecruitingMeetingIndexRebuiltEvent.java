@@ -0,0 +1,10 @@
+package com.aidea.backend.domain.recommendation.index;
+
+/**
+ * 추천 후보 인덱스 전체 재적재 완료 이벤트
+ * - 후보 목록에서 파생한 인덱스(지도 클러스터 등)가 다시 집계하도록 알립니다
+ *
+ * @param size 재적재된 후보 수
+ */
+public record RecruitingMeetingIndexRebuiltEvent(int size) {
+}
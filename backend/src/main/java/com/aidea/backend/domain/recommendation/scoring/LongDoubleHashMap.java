@@ -0,0 +1,98 @@
+package com.aidea.backend.domain.recommendation.scoring;
+
+/**
+ * long → double 오픈 어드레싱 해시 맵 (선형 탐사)
+ * - 키/값을 primitive 배열에만 보관하므로 put/get에서 박싱이 일어나지 않습니다 (배열을 늘릴 때만 할당)
+ * - 삭제는 지원하지 않습니다 (요청 단위로 채우고 버리는 용도)
+ * - 스레드 안전하지 않습니다. 다 채운 뒤 여러 스레드에서 읽기만 하는 것은 안전합니다
+ */
+public final class LongDoubleHashMap {
+
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] keys;
+  private double[] values;
+  private boolean[] used;
+  private int size;
+
+  public LongDoubleHashMap() {
+    this(MIN_CAPACITY);
+  }
+
+  public LongDoubleHashMap(int expectedSize) {
+    allocate(tableSizeFor(expectedSize));
+  }
+
+  public void put(long key, double value) {
+    int mask = keys.length - 1;
+    int slot = hash(key) & mask;
+    while (used[slot]) {
+      if (keys[slot] == key) {
+        values[slot] = value;
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+    used[slot] = true;
+    keys[slot] = key;
+    values[slot] = value;
+    if (++size * 2 > keys.length) {
+      rehash(keys.length << 1);
+    }
+  }
+
+  /**
+   * 키의 값, 없으면 defaultValue
+   */
+  public double get(long key, double defaultValue) {
+    int mask = keys.length - 1;
+    int slot = hash(key) & mask;
+    while (used[slot]) {
+      if (keys[slot] == key) {
+        return values[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return defaultValue;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    double[] oldValues = values;
+    boolean[] oldUsed = used;
+    allocate(capacity);
+    size = 0;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldUsed[i]) {
+        put(oldKeys[i], oldValues[i]);
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new double[capacity];
+    used = new boolean[capacity];
+  }
+
+  // 채움률 50% 이하가 되도록 2의 거듭제곱으로 올림
+  private static int tableSizeFor(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity < expectedSize * 2L && capacity < (1 << 30)) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  // 연속된 ID가 이웃 슬롯에 몰리지 않도록 섞음 (Murmur3 fmix64)
+  private static int hash(long key) {
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    return (int) key;
+  }
+}
@@ -0,0 +1,52 @@
+package com.aidea.backend.domain.recommendation.scoring;
+
+import lombok.Getter;
+
+/**
+ * 모임 하나에 대한 추천 점수 구성 요소
+ * - 관심사/지역/인기도/신선도 점수를 한 번에 계산해 보관하고, 추천 이유는 이 값들로부터 만듭니다
+ */
+@Getter
+public final class RecommendationScore {
+
+  private final double interestScore;
+  private final double locationScore;
+  private final double popularityScore;
+  private final double freshnessScore;
+
+  RecommendationScore(double interestScore, double locationScore, double popularityScore, double freshnessScore) {
+    this.interestScore = interestScore;
+    this.locationScore = locationScore;
+    this.popularityScore = popularityScore;
+    this.freshnessScore = freshnessScore;
+  }
+
+  /**
+   * 총 추천 점수
+   */
+  public double getTotal() {
+    return interestScore + locationScore + popularityScore + freshnessScore;
+  }
+
+  /**
+   * 추천 이유를 생성합니다 (디버깅용)
+   */
+  public String getReason() {
+    StringBuilder reason = new StringBuilder();
+
+    if (interestScore > 0) {
+      reason.append("관심사 일치(").append(String.format("%.1f", interestScore)).append("점) ");
+    }
+    if (locationScore > 0) {
+      reason.append("지역 근접(").append(String.format("%.1f", locationScore)).append("점) ");
+    }
+    if (popularityScore > 0) {
+      reason.append("인기도(").append(String.format("%.1f", popularityScore)).append("점) ");
+    }
+    if (freshnessScore > 0) {
+      reason.append("신규(").append(String.format("%.1f", freshnessScore)).append("점)");
+    }
+
+    return reason.toString().trim();
+  }
+}
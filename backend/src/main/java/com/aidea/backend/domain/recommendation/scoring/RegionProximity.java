@@ -0,0 +1,86 @@
+package com.aidea.backend.domain.recommendation.scoring;
+
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import com.aidea.backend.global.geo.GeoUtils;
+
+/**
+ * 지역(구) 간 근접도 표
+ * - 클래스 로딩 시 구 대표 좌표로 25×25 거리/인접/점수 행렬을 한 번 만들어 둡니다
+ * - 조회는 Region.ordinal() 인덱스 배열 접근뿐이므로 객체 할당이 없습니다
+ * - 점수: 같은 구 30점, 인접 구(대표 좌표 6km 이내) 최소 15점, 그 외는 거리 감쇠
+ */
+public final class RegionProximity {
+
+  // 대표 좌표 간 거리가 이 값 이하이면 인접 구로 봅니다
+  public static final double ADJACENT_DISTANCE_METERS = 6_000.0;
+
+  private static final Region[] REGIONS = Region.values();
+  private static final double[][] DISTANCE_METERS = new double[REGIONS.length][REGIONS.length];
+  private static final boolean[][] ADJACENT = new boolean[REGIONS.length][REGIONS.length];
+  private static final double[][] SCORES = new double[REGIONS.length][REGIONS.length];
+
+  static {
+    for (Region from : REGIONS) {
+      for (Region to : REGIONS) {
+        int i = from.ordinal();
+        int j = to.ordinal();
+        double distance = GeoUtils.haversineMeters(
+            from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+        DISTANCE_METERS[i][j] = distance;
+        ADJACENT[i][j] = i != j && distance <= ADJACENT_DISTANCE_METERS;
+
+        if (i == j) {
+          SCORES[i][j] = ScoringContext.LOCATION_WEIGHT;
+        } else if (ADJACENT[i][j]) {
+          SCORES[i][j] = Math.max(ScoringContext.locationDecay(distance), ScoringContext.LOCATION_WEIGHT / 2.0);
+        } else {
+          SCORES[i][j] = ScoringContext.locationDecay(distance);
+        }
+      }
+    }
+  }
+
+  private RegionProximity() {
+  }
+
+  /**
+   * 두 구 대표 좌표 사이의 거리(미터)
+   */
+  public static double distanceMeters(Region from, Region to) {
+    return DISTANCE_METERS[from.ordinal()][to.ordinal()];
+  }
+
+  public static boolean isAdjacent(Region from, Region to) {
+    return ADJACENT[from.ordinal()][to.ordinal()];
+  }
+
+  /**
+   * 지역 점수
+   */
+  public static double score(Region from, Region to) {
+    return SCORES[from.ordinal()][to.ordinal()];
+  }
+
+  /**
+   * 기준 구의 점수 행 (Region.ordinal() 인덱스). 반환 배열은 수정하지 마십시오.
+   */
+  static double[] scoresFrom(Region from) {
+    return SCORES[from.ordinal()];
+  }
+
+  /**
+   * 좌표에서 가장 가까운 구 (대표 좌표 기준)
+   */
+  public static Region nearest(double latitude, double longitude) {
+    Region nearest = REGIONS[0];
+    double best = Double.MAX_VALUE;
+    for (Region region : REGIONS) {
+      double distance = GeoUtils.haversineMeters(latitude, longitude, region.getLatitude(), region.getLongitude());
+      if (distance < best) {
+        best = distance;
+        nearest = region;
+      }
+    }
+    return nearest;
+  }
+}
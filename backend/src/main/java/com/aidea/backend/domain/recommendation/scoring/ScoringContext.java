@@ -0,0 +1,186 @@
+package com.aidea.backend.domain.recommendation.scoring;
+
+import com.aidea.backend.domain.interest.matcher.InterestMatcher;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.recommendation.index.RecruitingMeetingIndex;
+import com.aidea.backend.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 요청 단위 추천 점수 계산 컨텍스트
+ * - 추천 요청마다 한 번 생성합니다
+ * - 사용자 관심사(비트셋/카테고리)와 위치를 미리 풀어 두어,
+ *   모임별 점수 계산 시 DB 조회나 문자열 가공 없이 한 번에 네 가지 점수를 계산합니다
+ * - 관심사 점수는 모임에 저장된 관심사 비트셋(meeting.interest_mask)과의 비트 AND로 판단합니다
+ */
+public final class ScoringContext {
+
+  // 가중치 상수
+  public static final double INTEREST_WEIGHT = 40.0;
+  public static final double LOCATION_WEIGHT = 30.0;
+  public static final double POPULARITY_WEIGHT = 20.0;
+  public static final double FRESHNESS_WEIGHT = 10.0;
+
+  // 지역 점수 감쇠 반경 (이 거리 이상이면 0점)
+  public static final double LOCATION_RADIUS_METERS = 10_000.0;
+
+  private static final double[] NO_REGION_SCORES = new double[Region.values().length];
+
+  private final long interestMask; // 사용자 관심사 비트셋
+  private final boolean[] categoryMatched; // MeetingCategory.ordinal() 기준, 해당 카테고리 관심사 보유 여부
+  private final LongDoubleHashMap locationScores; // 좌표가 있는 반경 이내 후보의 모임 ID → 지역 점수 (박싱 없음)
+  private final double[] regionScores; // Region.ordinal() 기준, 좌표가 없을 때 쓰는 구 단위 점수 (RegionProximity 행)
+  private final boolean hasUserPoint;
+  private final LocalDateTime now;
+
+  private ScoringContext(long interestMask, boolean[] categoryMatched, LongDoubleHashMap locationScores,
+      double[] regionScores, boolean hasUserPoint, LocalDateTime now) {
+    this.interestMask = interestMask;
+    this.categoryMatched = categoryMatched;
+    this.locationScores = locationScores;
+    this.regionScores = regionScores;
+    this.hasUserPoint = hasUserPoint;
+    this.now = now;
+  }
+
+  /**
+   * 사용자와 사용자 관심사 비트셋으로 컨텍스트를 생성합니다.
+   * - 좌표가 있는 모임의 지역 점수는 후보 인덱스의 격자 검색으로 반경 이내 후보만 미리 계산합니다 (나머지는 0점)
+   * - 좌표가 없는 쪽이 있으면 사용자 구 기준 RegionProximity 점수 행을 사용합니다
+   */
+  public static ScoringContext of(User user, long interestMask, LocalDateTime now,
+      RecruitingMeetingIndex candidateIndex, InterestMatcher interestMatcher) {
+    boolean[] categoryMatched = new boolean[MeetingCategory.values().length];
+    for (MeetingCategory category : MeetingCategory.values()) {
+      categoryMatched[category.ordinal()] = (interestMask & interestMatcher.categoryMask(category)) != 0;
+    }
+
+    // 좌표가 있으면 격자 검색으로 반경 이내 후보의 거리 점수를, 구 단위 점수는 가장 가까운 구 기준으로 준비
+    LongDoubleHashMap locationScores = new LongDoubleHashMap();
+    boolean hasUserPoint = user.getLatitude() != null && user.getLongitude() != null;
+    Region userRegion;
+    if (hasUserPoint) {
+      candidateIndex.forEachWithin(user.getLatitude(), user.getLongitude(), LOCATION_RADIUS_METERS,
+          (meetingId, distance) -> locationScores.put(meetingId, locationDecay(distance)));
+      userRegion = RegionProximity.nearest(user.getLatitude(), user.getLongitude());
+    } else {
+      userRegion = Region.fromLocation(user.getLocation());
+    }
+    double[] regionScores = userRegion != null ? RegionProximity.scoresFrom(userRegion) : NO_REGION_SCORES;
+
+    return new ScoringContext(interestMask, categoryMatched,
+        locationScores, regionScores, hasUserPoint, now);
+  }
+
+  public long getInterestMask() {
+    return interestMask;
+  }
+
+  public boolean isCategoryMatched(MeetingCategory category) {
+    return categoryMatched[category.ordinal()];
+  }
+
+  /**
+   * 해당 지역의 새 모임이 지역 점수를 절반 이상 받는지 여부
+   */
+  public boolean isNearby(Region region) {
+    return regionScores[region.ordinal()] >= LOCATION_WEIGHT / 2.0;
+  }
+
+  /**
+   * 총 점수만 계산합니다 (객체 할당 없음, 순위 선별용).
+   */
+  public double totalScore(MeetingSnapshot meeting) {
+    return interestScore(meeting) + locationScore(meeting) + popularityScore(meeting) + freshnessScore(meeting);
+  }
+
+  /**
+   * 모임 하나의 네 가지 점수를 한 번에 계산합니다.
+   */
+  public RecommendationScore score(MeetingSnapshot meeting) {
+    return new RecommendationScore(
+        interestScore(meeting),
+        locationScore(meeting),
+        popularityScore(meeting),
+        freshnessScore(meeting));
+  }
+
+  /**
+   * 관심사 매칭 점수 (최대 40점)
+   */
+  private double interestScore(MeetingSnapshot meeting) {
+    if (interestMask == 0L) {
+      return 0.0;
+    }
+
+    // 1. 카테고리 일치 (40점) - 모임 비트셋에는 모임 카테고리의 관심사 비트가 모두 포함됨
+    if (categoryMatched[meeting.getCategory().ordinal()]) {
+      return INTEREST_WEIGHT;
+    }
+
+    // 2. 제목 또는 설명에 관심사 이름 포함 (20점)
+    if ((interestMask & meetingInterestMask(meeting)) != 0L) {
+      return INTEREST_WEIGHT / 2.0;
+    }
+
+    return 0.0;
+  }
+
+  /**
+   * 모임 관심사 비트셋 (후보 인덱스가 적재 시점에 채워 둠)
+   */
+  private static long meetingInterestMask(MeetingSnapshot meeting) {
+    Long mask = meeting.getInterestMask();
+    return mask != null ? mask : 0L;
+  }
+
+  /**
+   * 지역 근접도 점수 (최대 30점)
+   * - 사용자/모임 모두 좌표가 있으면 haversine 거리 감쇠 (격자 검색 결과)
+   * - 한쪽이라도 좌표가 없으면 구 단위 근접도 표 조회
+   */
+  private double locationScore(MeetingSnapshot meeting) {
+    if (hasUserPoint && meeting.getLatitude() != null && meeting.getLongitude() != null) {
+      return locationScores.get(meeting.getId(), 0.0);
+    }
+    return regionScores[meeting.getRegion().ordinal()];
+  }
+
+  /**
+   * 인기도 점수 (최대 20점)
+   */
+  private double popularityScore(MeetingSnapshot meeting) {
+    if (meeting.getMaxMembers() == 0) {
+      return 0.0;
+    }
+
+    double ratio = (double) meeting.getCurrentMembers() / meeting.getMaxMembers();
+    return ratio * POPULARITY_WEIGHT;
+  }
+
+  /**
+   * 신선도 점수 (최대 10점)
+   */
+  private double freshnessScore(MeetingSnapshot meeting) {
+    if (meeting.getCreatedAt() == null) {
+      return 0.0;
+    }
+
+    long daysSinceCreation = ChronoUnit.DAYS.between(meeting.getCreatedAt(), now);
+    return Math.max(0, FRESHNESS_WEIGHT - daysSinceCreation);
+  }
+
+  /**
+   * 거리 감쇠 지역 점수: 0m에서 30점, 반경 끝에서 0점 (선형)
+   */
+  static double locationDecay(double distanceMeters) {
+    if (distanceMeters >= LOCATION_RADIUS_METERS) {
+      return 0.0;
+    }
+    return LOCATION_WEIGHT * (1.0 - distanceMeters / LOCATION_RADIUS_METERS);
+  }
+}
@@ -0,0 +1,74 @@
+package com.aidea.backend.domain.recommendation.scoring;
+
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 후보 목록을 구간 단위로 나눠 병렬 채점하는 Fork/Join 작업
+ * - 각 작업자는 자기 구간의 상위 K개만 보관하고, 합칠 때 TopKSelector.merge로 병합합니다
+ */
+public class TopKScoringTask extends RecursiveTask<TopKSelector> {
+
+  private final List<MeetingSnapshot> candidates;
+  private final int from;
+  private final int to;
+  private final ScoringContext context;
+  private final int limit;
+  private final double minScore;
+  private final int chunkSize;
+
+  public TopKScoringTask(List<MeetingSnapshot> candidates, ScoringContext context,
+      int limit, double minScore, int chunkSize) {
+    this(candidates, 0, candidates.size(), context, limit, minScore, chunkSize);
+  }
+
+  private TopKScoringTask(List<MeetingSnapshot> candidates, int from, int to, ScoringContext context,
+      int limit, double minScore, int chunkSize) {
+    this.candidates = candidates;
+    this.from = from;
+    this.to = to;
+    this.context = context;
+    this.limit = limit;
+    this.minScore = minScore;
+    this.chunkSize = Math.max(1, chunkSize);
+  }
+
+  @Override
+  protected TopKSelector compute() {
+    if (to - from <= chunkSize) {
+      return scoreRange(candidates, from, to, context, limit, minScore);
+    }
+
+    int middle = (from + to) >>> 1;
+    TopKScoringTask left = new TopKScoringTask(candidates, from, middle, context, limit, minScore, chunkSize);
+    TopKScoringTask right = new TopKScoringTask(candidates, middle, to, context, limit, minScore, chunkSize);
+    left.fork();
+    TopKSelector rightTopK = right.compute();
+    TopKSelector leftTopK = left.join();
+
+    // 구간별 선택기는 구간 크기로 잘려 있으므로 합친 구간 크기에 맞는 선택기로 병합
+    TopKSelector result = new TopKSelector(Math.min(limit, to - from));
+    result.merge(rightTopK);
+    result.merge(leftTopK);
+    return result;
+  }
+
+  /**
+   * 구간 [from, to)를 단일 스레드로 채점해 상위 K개를 선별합니다.
+   * - 선택기 크기는 min(limit, 구간 크기)이므로 limit이 커도 구간 크기 이상 할당하지 않습니다
+   */
+  public static TopKSelector scoreRange(List<MeetingSnapshot> candidates, int from, int to,
+      ScoringContext context, int limit, double minScore) {
+    TopKSelector topK = new TopKSelector(Math.min(limit, to - from));
+    for (int i = from; i < to; i++) {
+      MeetingSnapshot meeting = candidates.get(i);
+      double score = context.totalScore(meeting);
+      if (score >= minScore) {
+        topK.offer(score, meeting.getId());
+      }
+    }
+    return topK;
+  }
+}
@@ -0,0 +1,123 @@
+package com.aidea.backend.domain.recommendation.scoring;
+
+import java.util.Arrays;
+
+/**
+ * 고정 크기 최소 힙 기반 상위 K개 선택기
+ * - (점수, 모임 ID) 쌍을 primitive 배열로만 보관하므로 후보 수와 무관하게 K개 만큼의 메모리만 사용합니다
+ * - 힙 루트는 현재 K개 중 가장 낮은 순위이며, 새 후보가 루트보다 나을 때만 교체합니다 (O(n log k))
+ * - 순위: 점수 내림차순, 동점이면 ID 오름차순
+ * - 스레드 안전하지 않습니다. 병렬 처리 시 작업자별로 생성한 뒤 merge 합니다
+ */
+public final class TopKSelector {
+
+  private final int capacity;
+  private final double[] scores;
+  private final long[] ids;
+  private int size;
+
+  public TopKSelector(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+    }
+    this.capacity = capacity;
+    this.scores = new double[capacity];
+    this.ids = new long[capacity];
+  }
+
+  /**
+   * 후보를 제안합니다. 상위 K개에 들면 보관합니다.
+   *
+   * @return 보관 여부
+   */
+  public boolean offer(double score, long id) {
+    if (capacity == 0) {
+      return false;
+    }
+    if (size < capacity) {
+      scores[size] = score;
+      ids[size] = id;
+      siftUp(size++);
+      return true;
+    }
+    if (!ranksHigher(score, id, scores[0], ids[0])) {
+      return false;
+    }
+    scores[0] = score;
+    ids[0] = id;
+    siftDown(0);
+    return true;
+  }
+
+  /**
+   * 다른 선택기의 결과를 합칩니다.
+   */
+  public void merge(TopKSelector other) {
+    for (int i = 0; i < other.size; i++) {
+      offer(other.scores[i], other.ids[i]);
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 보관 중인 ID를 순위 순(점수 높은 순)으로 반환합니다.
+   */
+  public long[] toSortedIds() {
+    Integer[] order = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> ranksHigher(scores[a], ids[a], scores[b], ids[b]) ? -1
+        : ranksHigher(scores[b], ids[b], scores[a], ids[a]) ? 1 : 0);
+
+    long[] result = new long[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = ids[order[i]];
+    }
+    return result;
+  }
+
+  private static boolean ranksHigher(double score, long id, double otherScore, long otherId) {
+    int compared = Double.compare(score, otherScore);
+    return compared > 0 || (compared == 0 && id < otherId);
+  }
+
+  private void siftUp(int index) {
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (!ranksHigher(scores[parent], ids[parent], scores[index], ids[index])) {
+        break;
+      }
+      swap(index, parent);
+      index = parent;
+    }
+  }
+
+  private void siftDown(int index) {
+    while (true) {
+      int left = (index << 1) + 1;
+      if (left >= size) {
+        break;
+      }
+      int right = left + 1;
+      int lowest = right < size && ranksHigher(scores[left], ids[left], scores[right], ids[right]) ? right : left;
+      if (!ranksHigher(scores[index], ids[index], scores[lowest], ids[lowest])) {
+        break;
+      }
+      swap(index, lowest);
+      index = lowest;
+    }
+  }
+
+  private void swap(int a, int b) {
+    double score = scores[a];
+    scores[a] = scores[b];
+    scores[b] = score;
+    long id = ids[a];
+    ids[a] = ids[b];
+    ids[b] = id;
+  }
+}
@@ -1,25 +1,30 @@
 package com.aidea.backend.domain.recommendation.service;
 
-import com.aidea.backend.domain.interest.entity.Interest;
+import com.aidea.backend.domain.interest.matcher.InterestMatcher;
 import com.aidea.backend.domain.meeting.dto.response.MeetingSummaryResponse;
-import com.aidea.backend.domain.meeting.entity.Meeting;
-import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
-import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.recommendation.cache.RecommendationCache;
 import com.aidea.backend.domain.recommendation.dto.MeetingRecommendationDto;
+import com.aidea.backend.domain.recommendation.index.RecruitingMeetingIndex;
+import com.aidea.backend.domain.recommendation.scoring.RecommendationScore;
+import com.aidea.backend.domain.recommendation.scoring.ScoringContext;
+import com.aidea.backend.domain.recommendation.scoring.TopKScoringTask;
+import com.aidea.backend.domain.recommendation.scoring.TopKSelector;
+import com.aidea.backend.domain.user.cache.UserInterestMaskCache;
 import com.aidea.backend.domain.user.entity.User;
-import com.aidea.backend.domain.user.entity.UserInterest;
-import com.aidea.backend.domain.user.repository.UserInterestRepository;
 import com.aidea.backend.domain.user.repository.UserRepository;
+import com.aidea.backend.global.cache.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * 모임 추천 서비스
@@ -32,187 +37,114 @@ import java.util.stream.Collectors;
 public class RecommendationService {
 
   private final UserRepository userRepository;
-  private final MeetingRepository meetingRepository;
-  private final UserInterestRepository userInterestRepository;
-
-  // 가중치 상수
-  private static final double INTEREST_WEIGHT = 40.0;
-  private static final double LOCATION_WEIGHT = 30.0;
-  private static final double POPULARITY_WEIGHT = 20.0;
-  private static final double FRESHNESS_WEIGHT = 10.0;
+  private final RecruitingMeetingIndex recruitingMeetingIndex;
+  private final UserInterestMaskCache userInterestMaskCache;
+  private final ForkJoinPool recommendationScoringPool;
+  private final RecommendationCache recommendationCache;
+  private final InterestMatcher interestMatcher;
+  private final SingleFlight<String, List<MeetingSummaryResponse>> recommendationLoads = new SingleFlight<>();
 
   // 최소 추천 점수
   private static final double MIN_SCORE_THRESHOLD = 20.0;
 
+  // 추천 최대 개수
+  private static final int MAX_LIMIT = 100;
+
+  // 후보 수가 이 값을 넘으면 병렬 채점 (미만이면 요청 스레드에서 단일 처리)
+  @Value("${recommendation.parallel.threshold:20000}")
+  private int parallelThreshold;
+
   /**
    * 사용자에게 추천할 모임 목록을 반환합니다.
    * 
    * @param email 사용자 이메일
-   * @param limit 반환할 최대 개수
+   * @param limit 반환할 최대 개수 (1 ~ MAX_LIMIT 범위로 보정)
    * @return 추천 모임 목록
    */
-  public List<MeetingSummaryResponse> getRecommendedMeetings(String email, int limit) {
-    User user = userRepository.findByEmail(email)
-        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
-
-    // 모집 중인 모임만 조회
-    List<Meeting> allMeetings = meetingRepository.findAll().stream()
-        .filter(meeting -> meeting.getStatus() == MeetingStatus.RECRUITING)
-        .filter(meeting -> !meeting.isFull())
-        .collect(Collectors.toList());
-
-    if (allMeetings.isEmpty()) {
-      log.info("추천 가능한 모임이 없습니다.");
-      return Collections.emptyList();
-    }
-
-    // 각 모임에 대해 점수 계산
-    List<MeetingRecommendationDto> recommendations = allMeetings.stream()
-        .map(meeting -> {
-          double score = calculateScore(user, meeting);
-          String reason = buildRecommendationReason(user, meeting);
-          return MeetingRecommendationDto.builder()
-              .meeting(meeting)
-              .score(score)
-              .reason(reason)
-              .build();
-        })
-        .filter(dto -> dto.getScore() >= MIN_SCORE_THRESHOLD)
-        .sorted() // Comparable 구현에 의해 점수 높은 순 정렬
-        .limit(limit)
-        .collect(Collectors.toList());
-
-    log.info("사용자 {}에게 {} 개의 모임을 추천합니다.", email, recommendations.size());
-
-    return recommendations.stream()
-        .map(dto -> dto.getMeeting().toSummary())
-        .collect(Collectors.toList());
-  }
-
-  /**
-   * 개별 모임에 대한 총 추천 점수를 계산합니다.
-   */
-  private double calculateScore(User user, Meeting meeting) {
-    double interestScore = calculateInterestScore(user, meeting);
-    double locationScore = calculateLocationScore(user, meeting);
-    double popularityScore = calculatePopularityScore(meeting);
-    double freshnessScore = calculateFreshnessScore(meeting);
-
-    return interestScore + locationScore + popularityScore + freshnessScore;
-  }
-
-  /**
-   * 관심사 매칭 점수 (최대 40점)
-   */
-  private double calculateInterestScore(User user, Meeting meeting) {
-    List<UserInterest> userInterests = userInterestRepository.findAll().stream()
-        .filter(ui -> ui.getUser().getUserId().equals(user.getUserId()))
-        .collect(Collectors.toList());
-
-    if (userInterests.isEmpty()) {
-      return 0.0;
-    }
-
-    double maxScore = 0.0;
-
-    for (UserInterest userInterest : userInterests) {
-      Interest interest = userInterest.getInterest();
-      double score = 0.0;
-
-      // 1. 카테고리 완전 일치 (40점)
-      if (interest.getCategory() != null &&
-          interest.getCategory().equalsIgnoreCase(meeting.getCategory().name())) {
-        score = INTEREST_WEIGHT;
+  public List<MeetingSummaryResponse> getRecommendedMeetings(String email, int requestedLimit) {
+    int limit = Math.max(1, Math.min(requestedLimit, MAX_LIMIT));
+
+    // 캐시 히트 시 순위 계산 없이 후보 인덱스에서 바로 요약 생성
+    List<Long> cachedIds = recommendationCache.get(email, limit);
+    if (cachedIds != null) {
+      List<MeetingSummaryResponse> cached = new ArrayList<>(cachedIds.size());
+      for (Long meetingId : cachedIds) {
+        MeetingSnapshot meeting = recruitingMeetingIndex.get(meetingId);
+        if (meeting != null) {
+          cached.add(meeting.toSummary());
+        }
       }
-      // 2. 제목 또는 설명에 관심사 이름 포함 (20점)
-      else if (meeting.getTitle().contains(interest.getInterestName()) ||
-          (meeting.getDescription() != null && meeting.getDescription().contains(interest.getInterestName()))) {
-        score = INTEREST_WEIGHT / 2.0;
-      }
-
-      maxScore = Math.max(maxScore, score);
+      return cached;
     }
 
-    return maxScore;
+    // 같은 사용자 + limit의 동시 미스는 한 번만 계산
+    return recommendationLoads.execute(email + ":" + limit, () -> computeRecommendations(email, limit));
   }
 
   /**
-   * 지역 근접도 점수 (최대 30점)
+   * 후보 인덱스에서 상위 K개를 선별해 추천 목록을 만들고 캐시에 저장합니다.
    */
-  private double calculateLocationScore(User user, Meeting meeting) {
-    if (user.getLocation() == null || meeting.getRegion() == null) {
-      return 0.0;
-    }
-
-    // 사용자 위치에서 Region 추출 (간단한 문자열 매칭)
-    String userLocation = user.getLocation().toUpperCase();
-    String meetingRegion = meeting.getRegion().name();
-
-    // 완전 일치 (30점)
-    if (userLocation.contains(meetingRegion.replace("_", " "))) {
-      return LOCATION_WEIGHT;
-    }
-
-    // 서울 내 다른 구 (15점)
-    if (userLocation.contains("SEOUL") && meetingRegion.startsWith("SEOUL")) {
-      return LOCATION_WEIGHT / 2.0;
-    }
+  private List<MeetingSummaryResponse> computeRecommendations(String email, int limit) {
+    User user = userRepository.findByEmail(email)
+        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
 
-    return 0.0;
-  }
+    // 모집 중 + 정원 미달 모임 (인메모리 후보 인덱스)
+    List<MeetingSnapshot> allMeetings = recruitingMeetingIndex.getCandidates();
 
-  /**
-   * 인기도 점수 (최대 20점)
-   */
-  private double calculatePopularityScore(Meeting meeting) {
-    if (meeting.getMaxMembers() == 0) {
-      return 0.0;
+    if (allMeetings.isEmpty()) {
+      log.info("추천 가능한 모임이 없습니다.");
+      return Collections.emptyList();
     }
 
-    double ratio = (double) meeting.getCurrentMembers() / meeting.getMaxMembers();
-    return ratio * POPULARITY_WEIGHT;
-  }
-
-  /**
-   * 신선도 점수 (최대 10점)
-   */
-  private double calculateFreshnessScore(Meeting meeting) {
-    if (meeting.getCreatedAt() == null) {
-      return 0.0;
+    // 요청 단위 점수 계산 컨텍스트 (사용자 관심사는 캐시된 비트셋 사용)
+    long interestMask = userInterestMaskCache.get(user.getUserId());
+    ScoringContext context = ScoringContext.of(
+        user, interestMask, LocalDateTime.now(), recruitingMeetingIndex, interestMatcher);
+
+    // 상위 K개 선별 (점수와 ID만 힙에 보관, DTO/추천 이유는 만들지 않음)
+    // - 격자(반경 이내 모임)만으로 후보를 좁히지 않고 전체를 채점함:
+    //   거리 점수가 0이어도 관심사(40) + 인기도(20) + 신선도(10)로 최소 점수(20)를 넘을 수 있어,
+    //   격자 기반 선별은 먼 지역의 관심사 일치 모임을 빠뜨려 추천 결과가 달라짐
+    // - 대신 모임당 채점은 비트 연산/배열 조회만 하고, 후보가 많으면 ForkJoinPool로 나눠 처리
+    TopKSelector topK = selectTopK(allMeetings, context, limit);
+
+    // 선별된 모임에 대해서만 추천 이유/요약 생성
+    List<MeetingSnapshot> winners = new ArrayList<>(topK.size());
+    List<MeetingSummaryResponse> recommendations = new ArrayList<>(topK.size());
+    for (long meetingId : topK.toSortedIds()) {
+      MeetingSnapshot meeting = recruitingMeetingIndex.get(meetingId);
+      if (meeting == null) {
+        continue; // 집계 도중 모집이 마감된 모임
+      }
+      RecommendationScore score = context.score(meeting);
+      MeetingRecommendationDto dto = MeetingRecommendationDto.builder()
+          .meeting(meeting)
+          .score(score.getTotal())
+          .reason(score.getReason())
+          .build();
+      log.debug("추천 모임: meetingId={}, score={}, reason={}", meetingId, dto.getScore(), dto.getReason());
+      winners.add(meeting);
+      recommendations.add(dto.getMeeting().toSummary());
     }
+    recommendationCache.put(email, limit, winners, context);
 
-    long daysSinceCreation = ChronoUnit.DAYS.between(meeting.getCreatedAt(), LocalDateTime.now());
-    double score = Math.max(0, FRESHNESS_WEIGHT - daysSinceCreation);
+    log.info("사용자 {}에게 {} 개의 모임을 추천합니다.", email, recommendations.size());
 
-    return score;
+    return recommendations;
   }
 
   /**
-   * 추천 이유를 생성합니다 (디버깅용)
+   * 후보 수에 따라 단일 스레드 또는 전용 ForkJoinPool에서 상위 K개를 선별합니다.
    */
-  private String buildRecommendationReason(User user, Meeting meeting) {
-    StringBuilder reason = new StringBuilder();
-
-    double interestScore = calculateInterestScore(user, meeting);
-    if (interestScore > 0) {
-      reason.append("관심사 일치(").append(String.format("%.1f", interestScore)).append("점) ");
-    }
-
-    double locationScore = calculateLocationScore(user, meeting);
-    if (locationScore > 0) {
-      reason.append("지역 근접(").append(String.format("%.1f", locationScore)).append("점) ");
-    }
-
-    double popularityScore = calculatePopularityScore(meeting);
-    if (popularityScore > 0) {
-      reason.append("인기도(").append(String.format("%.1f", popularityScore)).append("점) ");
-    }
-
-    double freshnessScore = calculateFreshnessScore(meeting);
-    if (freshnessScore > 0) {
-      reason.append("신규(").append(String.format("%.1f", freshnessScore)).append("점)");
+  private TopKSelector selectTopK(List<MeetingSnapshot> candidates, ScoringContext context, int limit) {
+    if (candidates.size() <= parallelThreshold) {
+      return TopKScoringTask.scoreRange(candidates, 0, candidates.size(), context, limit, MIN_SCORE_THRESHOLD);
     }
 
-    return reason.toString().trim();
+    // 작업자당 4개 정도의 구간으로 나눠 work-stealing 여지를 남김
+    int chunkSize = Math.max(parallelThreshold / 4,
+        candidates.size() / (recommendationScoringPool.getParallelism() * 4));
+    return recommendationScoringPool.invoke(
+        new TopKScoringTask(candidates, context, limit, MIN_SCORE_THRESHOLD, chunkSize));
   }
 }
@@ -0,0 +1,164 @@
+package com.aidea.backend.domain.search.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * 자모 분해 키 기반 자동완성 트라이 (불변)
+ * - 후보 문구를 HangulJamo로 분해한 키로 트라이를 만들고, 노드마다 하위 트리의 최대 인기도를 미리 계산해 둡니다
+ * - 조회는 접두어 노드에서 최대 인기도가 큰 가지부터 펼치는 best-first 탐색이라, 하위 트리 전체를 보지 않고 상위 N개를 찾습니다
+ * - 같은 키의 후보가 여럿이면 인기도가 가장 높은 것 하나만 남깁니다
+ * - 생성 후 불변이므로 여러 스레드에서 동시에 조회할 수 있습니다 (갱신은 새로 만들어 교체)
+ */
+public final class AutocompleteTrie {
+
+    private final char[][] edgeChars; // 노드별 정렬된 전이 문자
+    private final int[][] edgeTargets;
+    private final int[] terminal; // 노드에서 끝나는 후보 번호 (-1이면 없음)
+    private final long[] subtreeMax; // 노드 하위 트리(자신 포함) 후보의 최대 인기도
+    private final String[] texts;
+    private final SuggestionType[] types;
+    private final long[] scores;
+
+    private AutocompleteTrie(char[][] edgeChars, int[][] edgeTargets, int[] terminal, long[] subtreeMax,
+            String[] texts, SuggestionType[] types, long[] scores) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.terminal = terminal;
+        this.subtreeMax = subtreeMax;
+        this.texts = texts;
+        this.types = types;
+        this.scores = scores;
+    }
+
+    /**
+     * 후보 문구 목록으로 트라이 생성
+     */
+    public static AutocompleteTrie build(List<Entry> entries) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminalList = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminalList.add(-1);
+
+        for (int e = 0; e < entries.size(); e++) {
+            String key = HangulJamo.decompose(entries.get(e).text());
+            if (key.isEmpty()) {
+                continue;
+            }
+            int node = 0;
+            for (int i = 0; i < key.length(); i++) {
+                Integer next = trie.get(node).get(key.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminalList.add(-1);
+                    trie.get(node).put(key.charAt(i), next);
+                }
+                node = next;
+            }
+            int previous = terminalList.get(node);
+            if (previous < 0 || entries.get(previous).score() < entries.get(e).score()) {
+                terminalList.set(node, e);
+            }
+        }
+
+        int size = trie.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        int[] terminal = new int[size];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (var edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+            terminal[node] = terminalList.get(node);
+        }
+
+        String[] texts = new String[entries.size()];
+        SuggestionType[] types = new SuggestionType[entries.size()];
+        long[] scores = new long[entries.size()];
+        for (int e = 0; e < entries.size(); e++) {
+            texts[e] = entries.get(e).text();
+            types[e] = entries.get(e).type();
+            scores[e] = entries.get(e).score();
+        }
+
+        // 자식 번호는 항상 부모보다 크므로 역순으로 한 번 훑으면 하위 트리 최대값이 완성됨
+        long[] subtreeMax = new long[size];
+        Arrays.fill(subtreeMax, Long.MIN_VALUE);
+        for (int node = size - 1; node >= 0; node--) {
+            if (terminal[node] >= 0) {
+                subtreeMax[node] = Math.max(subtreeMax[node], scores[terminal[node]]);
+            }
+            for (int child : edgeTargets[node]) {
+                subtreeMax[node] = Math.max(subtreeMax[node], subtreeMax[child]);
+            }
+        }
+
+        return new AutocompleteTrie(edgeChars, edgeTargets, terminal, subtreeMax, texts, types, scores);
+    }
+
+    /**
+     * 접두어로 시작하는 후보 중 인기도 상위 limit개 (인기도 내림차순)
+     */
+    public List<Suggestion> complete(String prefix, int limit) {
+        String key = HangulJamo.decompose(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int node = 0;
+        for (int i = 0; i < key.length() && node >= 0; i++) {
+            int index = Arrays.binarySearch(edgeChars[node], key.charAt(i));
+            node = index >= 0 ? edgeTargets[node][index] : -1;
+        }
+        if (node < 0) {
+            return List.of();
+        }
+
+        // 원소: 노드(우선순위 = 하위 트리 최대값) 또는 후보(우선순위 = 인기도), 같은 값이면 후보 먼저
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> a[0] != b[0]
+                ? Long.compare(b[0], a[0])
+                : Long.compare(b[2], a[2]));
+        queue.add(new long[] { subtreeMax[node], node, 0 });
+        List<Suggestion> result = new ArrayList<>(limit);
+        while (!queue.isEmpty() && result.size() < limit) {
+            long[] top = queue.poll();
+            int id = (int) top[1];
+            if (top[2] == 1) {
+                result.add(new Suggestion(texts[id], types[id], scores[id]));
+                continue;
+            }
+            if (terminal[id] >= 0) {
+                queue.add(new long[] { scores[terminal[id]], terminal[id], 1 });
+            }
+            for (int child : edgeTargets[id]) {
+                queue.add(new long[] { subtreeMax[child], child, 0 });
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    /**
+     * 트라이 입력 후보
+     */
+    public record Entry(String text, SuggestionType type, long score) {
+    }
+
+    /**
+     * 자동완성 결과
+     */
+    public record Suggestion(String text, SuggestionType type, long score) {
+    }
+}
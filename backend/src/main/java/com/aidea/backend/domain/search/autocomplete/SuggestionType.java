@@ -0,0 +1,9 @@
+package com.aidea.backend.domain.search.autocomplete;
+
+/**
+ * 자동완성 후보 종류
+ */
+public enum SuggestionType {
+    INTEREST, // 관심사 이름
+    MEETING // 모임 제목
+}
@@ -0,0 +1,37 @@
+package com.aidea.backend.domain.search.controller;
+
+import com.aidea.backend.domain.search.dto.AutocompleteResponse;
+import com.aidea.backend.domain.search.service.AutocompleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 검색 API Controller
+ */
+@Tag(name = "Search", description = "검색 API")
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final AutocompleteService autocompleteService;
+
+    /**
+     * 검색어 자동완성
+     */
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 검색어(음절 조합 중 포함)로 시작하는 관심사/모임 제목을 인기도 순으로 반환합니다")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteResponse>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(autocompleteService.complete(q, limit));
+    }
+}
@@ -0,0 +1,24 @@
+package com.aidea.backend.domain.search.dto;
+
+import com.aidea.backend.domain.search.autocomplete.AutocompleteTrie;
+import com.aidea.backend.domain.search.autocomplete.SuggestionType;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 자동완성 후보 응답
+ */
+@Getter
+@Builder
+public class AutocompleteResponse {
+
+    private String text;
+    private SuggestionType type;
+
+    public static AutocompleteResponse from(AutocompleteTrie.Suggestion suggestion) {
+        return AutocompleteResponse.builder()
+                .text(suggestion.text())
+                .type(suggestion.type())
+                .build();
+    }
+}
@@ -0,0 +1,380 @@
+package com.aidea.backend.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * 바이그램 역색인 + BM25 순위
+ * - 문서는 추가 순서대로 내부 번호를 받으므로 포스팅은 항상 뒤에 덧붙이기만 합니다
+ * - 포스팅은 (내부 번호 차이, 출현 횟수)를 varint로 이어 붙인 byte 배열입니다
+ * - 수정은 이전 번호를 삭제 표시하고 새 번호로 다시 추가하며, 삭제 표시가 쌓이면 번호를 다시 매겨 압축합니다
+ * - 문서마다 int 속성 하나(필터용)를 함께 보관합니다
+ * - 읽기/쓰기는 ReadWriteLock으로 보호합니다 (쓰기는 모임 변경 시에만 발생)
+ */
+public final class BigramInvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_COMPACTION_DELETES = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private TreeMap<Integer, Posting> postings = new TreeMap<>(); // 색인어 → 포스팅 (한 글자 검색은 범위 조회)
+    private final Map<Long, Integer> docsById = new HashMap<>(); // 외부 ID → 현재 내부 번호
+    private long[] externalIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private int[] attributes = new int[1024];
+    private BitSet deleted = new BitSet();
+    private int docCount; // 발급한 내부 번호 수 (삭제 포함)
+    private int deletedCount;
+    private long liveLengthSum;
+
+    /**
+     * 문서 추가/교체
+     */
+    public void put(long id, int attribute, int[] terms) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            externalIds[doc] = id;
+            lengths[doc] = terms.length;
+            attributes[doc] = attribute;
+            docsById.put(id, doc);
+            liveLengthSum += terms.length;
+
+            int[] sorted = terms.clone();
+            Arrays.sort(sorted);
+            for (int i = 0; i < sorted.length; ) {
+                int j = i;
+                while (j < sorted.length && sorted[j] == sorted[i]) {
+                    j++;
+                }
+                postings.computeIfAbsent(sorted[i], term -> new Posting()).append(doc, j - i);
+                i = j;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 바이그램을 포함하고 한 글자 단어마다 그 글자가 들어 있는 문서를 BM25 점수 순으로 찾습니다.
+     * (동점은 최근에 색인된 문서 우선, 한 글자 단어는 점수에 반영하지 않음)
+     *
+     * @param filter 문서 속성 필터
+     */
+    public SearchHits search(BigramTokenizer.QueryTerms query, IntPredicate filter, int offset, int limit) {
+        if (query.isEmpty()) {
+            return SearchHits.EMPTY;
+        }
+        lock.readLock().lock();
+        try {
+            int liveCount = docsById.size();
+            if (liveCount == 0) {
+                return SearchHits.EMPTY;
+            }
+            double avgLength = (double) liveLengthSum / liveCount;
+
+            List<Posting> required = new ArrayList<>(query.bigrams().length);
+            for (int term : query.bigrams()) {
+                Posting posting = postings.get(term);
+                if (posting == null) {
+                    return SearchHits.EMPTY;
+                }
+                required.add(posting);
+            }
+            required.sort(Comparator.comparingInt(posting -> posting.docFrequency));
+
+            List<BitSet> singles = new ArrayList<>(query.singles().length);
+            for (char c : query.singles()) {
+                BitSet docs = new BitSet(docCount);
+                int from = BigramTokenizer.term(c, (char) 0);
+                for (Posting posting : postings.subMap(from, true, from | 0xFFFF, true).values()) {
+                    posting.collect(docs);
+                }
+                singles.add(docs);
+            }
+
+            // 1. 후보: 가장 드문 바이그램의 포스팅 (없으면 첫 한 글자 단어의 문서) - 삭제/필터 제외
+            int[] docs;
+            double[] scores;
+            int count;
+            if (!required.isEmpty()) {
+                Posting first = required.get(0);
+                docs = new int[first.docFrequency];
+                scores = new double[first.docFrequency];
+                count = 0;
+                double idf = idf(first.docFrequency, liveCount);
+                PostingReader reader = first.reader();
+                while (reader.next()) {
+                    if (!deleted.get(reader.doc) && filter.test(attributes[reader.doc])) {
+                        docs[count] = reader.doc;
+                        scores[count] = bm25(idf, reader.frequency, lengths[reader.doc], avgLength);
+                        count++;
+                    }
+                }
+            } else {
+                BitSet base = singles.get(0);
+                docs = new int[base.cardinality()];
+                scores = new double[docs.length];
+                count = 0;
+                for (int doc = base.nextSetBit(0); doc >= 0; doc = base.nextSetBit(doc + 1)) {
+                    if (!deleted.get(doc) && filter.test(attributes[doc])) {
+                        docs[count++] = doc;
+                    }
+                }
+            }
+
+            // 2. 나머지 바이그램과 교집합 (둘 다 내부 번호 오름차순이므로 병합)
+            for (int t = 1; t < required.size() && count > 0; t++) {
+                Posting posting = required.get(t);
+                double idf = idf(posting.docFrequency, liveCount);
+                PostingReader reader = posting.reader();
+                int kept = 0;
+                int i = 0;
+                boolean more = reader.next();
+                while (i < count && more) {
+                    if (reader.doc < docs[i]) {
+                        more = reader.next();
+                    } else if (reader.doc > docs[i]) {
+                        i++;
+                    } else {
+                        docs[kept] = docs[i];
+                        scores[kept] = scores[i] + bm25(idf, reader.frequency, lengths[docs[i]], avgLength);
+                        kept++;
+                        i++;
+                        more = reader.next();
+                    }
+                }
+                count = kept;
+            }
+
+            // 3. 한 글자 단어 조건
+            if (!singles.isEmpty()) {
+                int kept = 0;
+                for (int i = 0; i < count; i++) {
+                    boolean matched = true;
+                    for (BitSet single : singles) {
+                        matched &= single.get(docs[i]);
+                    }
+                    if (matched) {
+                        docs[kept] = docs[i];
+                        scores[kept] = scores[i];
+                        kept++;
+                    }
+                }
+                count = kept;
+            }
+
+            // 4. 점수 내림차순 → 내부 번호 내림차순(최근 색인 우선)
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            double[] finalScores = scores;
+            int[] finalDocs = docs;
+            Arrays.sort(order, (a, b) -> {
+                int byScore = Double.compare(finalScores[b], finalScores[a]);
+                return byScore != 0 ? byScore : Integer.compare(finalDocs[b], finalDocs[a]);
+            });
+
+            int from = Math.min(offset, count);
+            int to = Math.min(from + limit, count);
+            List<Long> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                ids.add(externalIds[docs[order[i]]]);
+            }
+            return new SearchHits(count, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(long id) {
+        Integer doc = docsById.remove(id);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        deletedCount++;
+        liveLengthSum -= lengths[doc];
+        if (deletedCount >= MIN_COMPACTION_DELETES && deletedCount > docsById.size() / 4) {
+            compact();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서를 빼고 내부 번호를 0부터 다시 매깁니다 (순서 유지, 포스팅 재인코딩).
+     */
+    private void compact() {
+        int[] remap = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            remap[doc] = deleted.get(doc) ? -1 : live++;
+        }
+
+        long[] newExternalIds = new long[Math.max(1024, live * 2)];
+        int[] newLengths = new int[newExternalIds.length];
+        int[] newAttributes = new int[newExternalIds.length];
+        for (int doc = 0; doc < docCount; doc++) {
+            if (remap[doc] >= 0) {
+                newExternalIds[remap[doc]] = externalIds[doc];
+                newLengths[remap[doc]] = lengths[doc];
+                newAttributes[remap[doc]] = attributes[doc];
+                docsById.put(externalIds[doc], remap[doc]);
+            }
+        }
+
+        TreeMap<Integer, Posting> compacted = new TreeMap<>();
+        for (Map.Entry<Integer, Posting> entry : postings.entrySet()) {
+            Posting rewritten = new Posting();
+            PostingReader reader = entry.getValue().reader();
+            while (reader.next()) {
+                if (remap[reader.doc] >= 0) {
+                    rewritten.append(remap[reader.doc], reader.frequency);
+                }
+            }
+            if (rewritten.docFrequency > 0) {
+                rewritten.trim();
+                compacted.put(entry.getKey(), rewritten);
+            }
+        }
+
+        postings = compacted;
+        externalIds = newExternalIds;
+        lengths = newLengths;
+        attributes = newAttributes;
+        deleted = new BitSet();
+        docCount = live;
+        deletedCount = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > externalIds.length) {
+            int newLength = Math.max(capacity, externalIds.length * 2);
+            externalIds = Arrays.copyOf(externalIds, newLength);
+            lengths = Arrays.copyOf(lengths, newLength);
+            attributes = Arrays.copyOf(attributes, newLength);
+        }
+    }
+
+    private static double idf(int docFrequency, int liveCount) {
+        return Math.log(1.0 + (liveCount - docFrequency + 0.5) / (docFrequency + 0.5));
+    }
+
+    private static double bm25(double idf, int frequency, int length, double avgLength) {
+        return idf * (frequency * (K1 + 1)) / (frequency + K1 * (1 - B + B * length / avgLength));
+    }
+
+    /**
+     * 색인어 하나의 포스팅 (delta-varint 인코딩, 덧붙이기 전용)
+     */
+    private static final class Posting {
+
+        private byte[] data = new byte[8];
+        private int size;
+        private int docFrequency; // 삭제 표시된 문서 포함
+        private int lastDoc = -1;
+
+        void append(int doc, int frequency) {
+            ensure(10);
+            size = writeVarint(data, size, doc - lastDoc);
+            size = writeVarint(data, size, frequency);
+            lastDoc = doc;
+            docFrequency++;
+        }
+
+        void collect(BitSet docs) {
+            PostingReader reader = reader();
+            while (reader.next()) {
+                docs.set(reader.doc);
+            }
+        }
+
+        PostingReader reader() {
+            return new PostingReader(data, size);
+        }
+
+        void trim() {
+            data = Arrays.copyOf(data, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > data.length) {
+                data = Arrays.copyOf(data, Math.max(size + extra, data.length * 2));
+            }
+        }
+
+        private static int writeVarint(byte[] target, int position, int value) {
+            while ((value & ~0x7F) != 0) {
+                target[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            target[position++] = (byte) value;
+            return position;
+        }
+    }
+
+    private static final class PostingReader {
+
+        private final byte[] data;
+        private final int size;
+        private int position;
+        int doc = -1;
+        int frequency;
+
+        PostingReader(byte[] data, int size) {
+            this.data = data;
+            this.size = size;
+        }
+
+        boolean next() {
+            if (position >= size) {
+                return false;
+            }
+            doc += readVarint();
+            frequency = readVarint();
+            return true;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.aidea.backend.domain.search.index;
+
+import java.util.Arrays;
+
+/**
+ * 바이그램 토크나이저
+ * - 글자/숫자 연속 구간을 단어로 보고, 소문자로 바꾼 뒤 단어마다 인접한 두 글자를 색인어로 씁니다
+ * - 단어의 마지막 글자는 (글자, 0)으로 색인해 모든 글자가 어떤 색인어의 첫 글자가 되도록 합니다
+ *   (한 글자 검색어는 그 글자로 시작하는 색인어 범위로 찾음)
+ * - 색인어는 두 글자를 int 하나로 묶은 값입니다 (앞 글자 상위 16비트, 뒷 글자 하위 16비트)
+ */
+public final class BigramTokenizer {
+
+    private static final int[] NO_TERMS = new int[0];
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 문서 색인어 (중복 포함, 문서 길이 = 배열 길이)
+     */
+    public static int[] documentTerms(String... texts) {
+        int[] terms = new int[16];
+        int count = 0;
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            int start = -1;
+            for (int i = 0; i <= text.length(); i++) {
+                boolean inWord = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+                if (inWord && start < 0) {
+                    start = i;
+                } else if (!inWord && start >= 0) {
+                    for (int j = start; j < i; j++) {
+                        char next = j + 1 < i ? normalize(text.charAt(j + 1)) : 0;
+                        if (count == terms.length) {
+                            terms = Arrays.copyOf(terms, count * 2);
+                        }
+                        terms[count++] = term(normalize(text.charAt(j)), next);
+                    }
+                    start = -1;
+                }
+            }
+        }
+        return count == 0 ? NO_TERMS : Arrays.copyOf(terms, count);
+    }
+
+    /**
+     * 검색어 분석
+     * - 두 글자 이상 단어: 단어 안의 바이그램 (마지막 글자 표식 없이 - 더 긴 단어의 일부도 찾도록)
+     * - 한 글자 단어: 그 글자 (그 글자로 시작하는 색인어 범위로 찾음)
+     */
+    public static QueryTerms queryTerms(String query) {
+        int[] terms = documentTerms(query);
+        int[] bigrams = new int[terms.length];
+        char[] singles = new char[terms.length];
+        int bigramCount = 0;
+        int singleCount = 0;
+        for (int i = 0; i < terms.length; i++) {
+            char second = (char) terms[i];
+            boolean wordStart = i == 0 || (char) terms[i - 1] == 0;
+            if (second != 0) {
+                bigrams[bigramCount++] = terms[i];
+            } else if (wordStart) {
+                singles[singleCount++] = (char) (terms[i] >>> 16);
+            }
+        }
+        return new QueryTerms(distinct(Arrays.copyOf(bigrams, bigramCount)), distinct(Arrays.copyOf(singles, singleCount)));
+    }
+
+    static int term(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static char normalize(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    private static int[] distinct(int[] values) {
+        return Arrays.stream(values).distinct().toArray();
+    }
+
+    private static char[] distinct(char[] values) {
+        StringBuilder builder = new StringBuilder(values.length);
+        for (char c : values) {
+            if (builder.indexOf(String.valueOf(c)) < 0) {
+                builder.append(c);
+            }
+        }
+        return builder.toString().toCharArray();
+    }
+
+    /**
+     * 분석된 검색어
+     *
+     * @param bigrams 모두 포함해야 하는 바이그램 색인어 (중복 제거)
+     * @param singles 한 글자 단어 (중복 제거)
+     */
+    public record QueryTerms(int[] bigrams, char[] singles) {
+
+        public boolean isEmpty() {
+            return bigrams.length == 0 && singles.length == 0;
+        }
+    }
+}
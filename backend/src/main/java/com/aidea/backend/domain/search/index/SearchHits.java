@@ -0,0 +1,14 @@
+package com.aidea.backend.domain.search.index;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 페이지
+ *
+ * @param total 조건에 맞는 전체 문서 수
+ * @param ids   점수 순 문서 ID (요청한 페이지 구간)
+ */
+public record SearchHits(int total, List<Long> ids) {
+
+    public static final SearchHits EMPTY = new SearchHits(0, List.of());
+}
@@ -0,0 +1,125 @@
+package com.aidea.backend.domain.search.service;
+
+import com.aidea.backend.domain.interest.entity.Interest;
+import com.aidea.backend.domain.interest.matcher.InterestMatcher;
+import com.aidea.backend.domain.interest.repository.InterestRepository;
+import com.aidea.backend.domain.meeting.dto.projection.MeetingTitleView;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import com.aidea.backend.domain.search.autocomplete.AutocompleteTrie;
+import com.aidea.backend.domain.search.autocomplete.SuggestionType;
+import com.aidea.backend.domain.search.dto.AutocompleteResponse;
+import com.aidea.backend.domain.user.dto.InterestUserCountView;
+import com.aidea.backend.domain.user.event.UserPreferenceChangedEvent;
+import com.aidea.backend.domain.user.repository.UserInterestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색창 자동완성
+ * - 관심사 이름(인기도 = 선택한 사용자 수)과 모집 중 모임 중 인원이 많은 모임 제목(인기도 = 현재 인원)으로 트라이를 만듭니다
+ * - 조회는 메모리의 불변 트라이만 사용하며 DB를 조회하지 않습니다
+ * - 모임/관심사 선택이 바뀌면 표시만 해 두고, 스케줄러 스레드에서 주기적으로 새로 만들어 교체합니다
+ */
+@Slf4j
+@Service
+public class AutocompleteService {
+
+    public static final int MAX_LIMIT = 20;
+
+    private final InterestRepository interestRepository;
+    private final UserInterestRepository userInterestRepository;
+    private final MeetingRepository meetingRepository;
+    private final int meetingTitleCount;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile AutocompleteTrie trie = AutocompleteTrie.build(List.of());
+
+    public AutocompleteService(InterestRepository interestRepository,
+            UserInterestRepository userInterestRepository,
+            MeetingRepository meetingRepository,
+            @Value("${search.autocomplete.meeting-titles:5000}") int meetingTitleCount) {
+        this.interestRepository = interestRepository;
+        this.userInterestRepository = userInterestRepository;
+        this.meetingRepository = meetingRepository;
+        this.meetingTitleCount = meetingTitleCount;
+    }
+
+    /**
+     * 기동 완료 후 첫 생성 (관심사 초기 데이터 적재 이후)
+     */
+    @Order(InterestMatcher.LOAD_ORDER + 2)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * 변경 표시가 있으면 다시 생성
+     */
+    @Scheduled(fixedDelayString = "${search.autocomplete.rebuild-interval-millis:60000}")
+    public void rebuildIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener
+    public void onUserPreferenceChanged(UserPreferenceChangedEvent event) {
+        if (event.getType() == UserPreferenceChangedEvent.Type.INTERESTS) {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * 접두어(입력 중인 음절 포함)로 시작하는 후보를 인기도 순으로 반환
+     */
+    public List<AutocompleteResponse> complete(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return trie.complete(prefix, Math.min(Math.max(limit, 1), MAX_LIMIT)).stream()
+                .map(AutocompleteResponse::from)
+                .toList();
+    }
+
+    private void rebuild() {
+        Map<Long, Long> userCounts = new HashMap<>();
+        for (InterestUserCountView row : userInterestRepository.countUsersGroupByInterest()) {
+            userCounts.put(row.getInterestId(), row.getUserCount());
+        }
+
+        List<AutocompleteTrie.Entry> entries = new ArrayList<>();
+        for (Interest interest : interestRepository.findAll()) {
+            entries.add(new AutocompleteTrie.Entry(interest.getInterestName(), SuggestionType.INTEREST,
+                    userCounts.getOrDefault(interest.getInterestId(), 0L)));
+        }
+        for (MeetingTitleView meeting : meetingRepository.findPopularTitles(
+                MeetingStatus.RECRUITING, PageRequest.ofSize(meetingTitleCount))) {
+            entries.add(new AutocompleteTrie.Entry(meeting.getTitle(), SuggestionType.MEETING,
+                    meeting.getCurrentMembers()));
+        }
+
+        trie = AutocompleteTrie.build(entries);
+        log.debug("자동완성 트라이 생성 완료: 후보 {}개", entries.size());
+    }
+}
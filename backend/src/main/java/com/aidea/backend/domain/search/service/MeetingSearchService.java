@@ -0,0 +1,109 @@
+package com.aidea.backend.domain.search.service;
+
+import com.aidea.backend.domain.interest.matcher.InterestMatcher;
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import com.aidea.backend.domain.search.index.BigramInvertedIndex;
+import com.aidea.backend.domain.search.index.BigramTokenizer;
+import com.aidea.backend.domain.search.index.SearchHits;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 모임 키워드 검색 (제목 + 설명 바이그램 역색인)
+ * - 기동 시 전체 모임을 색인하고, 모임 생성/수정/삭제 커밋 후 해당 모임만 다시 색인합니다
+ *   (인원 변경처럼 제목/설명/카테고리/지역이 그대로인 변경은 건너뜀)
+ * - 카테고리/지역은 문서 속성으로 함께 보관해 색인 안에서 필터링합니다
+ * - 단일 인스턴스 기준입니다 (다른 인스턴스의 변경은 재기동 시 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingSearchService {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final MeetingRepository meetingRepository;
+
+    private final BigramInvertedIndex index = new BigramInvertedIndex();
+
+    /**
+     * 기동 완료 후 전체 색인 (id 기준 keyset 배치)
+     */
+    @Order(InterestMatcher.LOAD_ORDER + 2)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        List<Meeting> batch;
+        do {
+            batch = meetingRepository.findAllAfter(lastId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            for (Meeting meeting : batch) {
+                index.put(meeting.getId(), attribute(meeting.getCategory(), meeting.getRegion()),
+                        BigramTokenizer.documentTerms(meeting.getTitle(), meeting.getDescription()));
+                lastId = meeting.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        log.info("모임 검색 색인 완료: {}개", index.size());
+    }
+
+    /**
+     * 모임 변경 커밋 후 색인 반영
+     */
+    @TransactionalEventListener
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        MeetingSnapshot after = event.getAfter();
+        if (after == null) {
+            index.remove(event.getMeetingId());
+            return;
+        }
+        if (isIndexedContentChanged(event.getBefore(), after)) {
+            index.put(after.getId(), attribute(after.getCategory(), after.getRegion()),
+                    BigramTokenizer.documentTerms(after.getTitle(), after.getDescription()));
+        }
+    }
+
+    /**
+     * 키워드 검색 (BM25 점수 순)
+     *
+     * @param category null이면 전체
+     * @param region   null이면 전체
+     * @return 조건에 맞는 전체 수와 요청 구간의 모임 ID
+     */
+    public SearchHits search(String query, MeetingCategory category, Region region, int offset, int limit) {
+        if (query == null || query.isBlank()) {
+            return SearchHits.EMPTY;
+        }
+        String trimmed = query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+        return index.search(BigramTokenizer.queryTerms(trimmed),
+                attribute -> (category == null || attribute / Region.values().length == category.ordinal())
+                        && (region == null || attribute % Region.values().length == region.ordinal()),
+                offset, limit);
+    }
+
+    private static boolean isIndexedContentChanged(MeetingSnapshot before, MeetingSnapshot after) {
+        return before == null
+                || !Objects.equals(before.getTitle(), after.getTitle())
+                || !Objects.equals(before.getDescription(), after.getDescription())
+                || before.getCategory() != after.getCategory()
+                || before.getRegion() != after.getRegion();
+    }
+
+    private static int attribute(MeetingCategory category, Region region) {
+        return category.ordinal() * Region.values().length + region.ordinal();
+    }
+}
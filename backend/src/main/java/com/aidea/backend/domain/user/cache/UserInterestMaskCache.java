@@ -0,0 +1,79 @@
+package com.aidea.backend.domain.user.cache;
+
+import com.aidea.backend.domain.interest.matcher.InterestMatcher;
+import com.aidea.backend.domain.user.event.UserPreferenceChangedEvent;
+import com.aidea.backend.domain.user.repository.UserInterestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자 관심사 비트셋 캐시 (Redis)
+ * - 사용자 관심사를 long 비트셋 하나로 보관합니다 (비트 위치는 InterestMatcher의 카탈로그 매핑)
+ * - 키에 매핑 버전을 넣어, 관심사 비트가 바뀌면 이전 매핑으로 계산한 값을 읽지 않습니다
+ * - 로그인 시 채우고, 관심사 변경 커밋 이후 다시 계산합니다
+ * - 캐시에 없거나 Redis 장애 시 관심사 ID만 조회하는 쿼리로 계산합니다 (UserInterest/Interest 엔티티 로딩 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserInterestMaskCache {
+
+    private static final String KEY_PREFIX = "user:interest-mask:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserInterestRepository userInterestRepository;
+    private final InterestMatcher interestMatcher;
+
+    /**
+     * 사용자 관심사 비트셋 조회
+     */
+    public long get(Long userId) {
+        try {
+            String value = redisTemplate.opsForValue().get(key(userId));
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+        } catch (RuntimeException e) {
+            log.warn("관심사 비트셋 캐시 조회 실패: userId={}, cause={}", userId, e.getMessage());
+            return load(userId);
+        }
+        return refresh(userId);
+    }
+
+    /**
+     * DB 기준으로 다시 계산해 캐시에 저장 (로그인 시 호출)
+     */
+    public long refresh(Long userId) {
+        long mask = load(userId);
+        try {
+            redisTemplate.opsForValue().set(key(userId), Long.toString(mask), TTL);
+        } catch (RuntimeException e) {
+            log.warn("관심사 비트셋 캐시 저장 실패: userId={}, cause={}", userId, e.getMessage());
+        }
+        return mask;
+    }
+
+    /**
+     * 관심사 변경 커밋 이후 갱신
+     */
+    @TransactionalEventListener
+    public void onUserPreferenceChanged(UserPreferenceChangedEvent event) {
+        if (event.getType() == UserPreferenceChangedEvent.Type.INTERESTS) {
+            refresh(event.getUserId());
+        }
+    }
+
+    private long load(Long userId) {
+        return interestMatcher.mask(userInterestRepository.findInterestIdsByUserId(userId));
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + interestMatcher.maskVersion() + ":" + userId;
+    }
+}
@@ -0,0 +1,11 @@
+package com.aidea.backend.domain.user.dto;
+
+/**
+ * 관심사별 선택 사용자 수 프로젝션 (자동완성 인기도용)
+ */
+public interface InterestUserCountView {
+
+  Long getInterestId();
+
+  Long getUserCount();
+}
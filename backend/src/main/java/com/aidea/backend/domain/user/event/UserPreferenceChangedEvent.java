@@ -0,0 +1,22 @@
+package com.aidea.backend.domain.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 추천 조건(관심사/위치) 변경 이벤트
+ * - 추천 결과 캐시 등 사용자 단위 파생 데이터를 커밋 이후 무효화하는 데 사용합니다
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserPreferenceChangedEvent {
+
+    public enum Type {
+        INTERESTS, // 관심사 변경
+        LOCATION // 위치 변경
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final String email;
+}
@@ -0,0 +1,15 @@
+package com.aidea.backend.domain.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 공개 프로필(닉네임/프로필 이미지) 변경 이벤트
+ * - 모임 상세 캐시처럼 생성자 정보를 함께 담아 둔 파생 데이터를 커밋 이후 무효화하는 데 사용합니다
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserProfileChangedEvent {
+
+    private final Long userId;
+}
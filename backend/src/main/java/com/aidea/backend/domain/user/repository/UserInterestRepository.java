@@ -1,7 +1,10 @@
 package com.aidea.backend.domain.user.repository;
 
+import com.aidea.backend.domain.user.dto.InterestUserCountView;
 import com.aidea.backend.domain.user.entity.UserInterest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.aidea.backend.domain.user.entity.User;
 
@@ -13,4 +16,17 @@ public interface UserInterestRepository extends JpaRepository<UserInterest, Long
   List<UserInterest> findAllByUser(User user);
 
   void deleteByUser_UserId(Long userId);
+
+  /**
+   * 사용자의 관심사 ID 목록 조회 (엔티티 로딩 없이 ID만)
+   */
+  @Query("select ui.interest.interestId from UserInterest ui where ui.user.userId = :userId")
+  List<Long> findInterestIdsByUserId(@Param("userId") Long userId);
+
+  /**
+   * 관심사별 선택 사용자 수 (자동완성 인기도용)
+   */
+  @Query("select ui.interest.interestId as interestId, count(ui) as userCount from UserInterest ui "
+      + "group by ui.interest.interestId")
+  List<InterestUserCountView> countUsersGroupByInterest();
 }
@@ -5,9 +5,11 @@ import com.aidea.backend.domain.interest.repository.InterestRepository;
 import com.aidea.backend.domain.user.dto.UserInterestDto;
 import com.aidea.backend.domain.user.entity.User;
 import com.aidea.backend.domain.user.entity.UserInterest;
+import com.aidea.backend.domain.user.event.UserPreferenceChangedEvent;
 import com.aidea.backend.domain.user.repository.UserInterestRepository;
 import com.aidea.backend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class UserInterestService {
   private final UserRepository userRepository;
   private final InterestRepository interestRepository;
   private final UserInterestRepository userInterestRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 사용자의 관심사를 설정합니다. (기존 관심사 초기화 후 재설정)
@@ -50,5 +53,8 @@ public class UserInterestService {
 
       userInterestRepository.saveAll(userInterests);
     }
+
+    eventPublisher.publishEvent(new UserPreferenceChangedEvent(
+        UserPreferenceChangedEvent.Type.INTERESTS, user.getUserId(), email));
   }
 }
@@ -1,16 +1,19 @@
 package com.aidea.backend.domain.user.service;
 
+import com.aidea.backend.domain.user.cache.UserInterestMaskCache;
 import com.aidea.backend.domain.user.dto.*;
 import com.aidea.backend.domain.user.entity.User;
 import com.aidea.backend.domain.user.repository.UserRepository;
 import com.aidea.backend.domain.user.repository.UserInterestRepository;
 import com.aidea.backend.domain.meeting.repository.MeetingMemberRepository;
 import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import com.aidea.backend.domain.meeting.entity.Meeting;
 import com.aidea.backend.domain.meeting.entity.MeetingMember;
 import com.aidea.backend.domain.meeting.entity.enums.MemberStatus;
 import com.aidea.backend.domain.meeting.dto.response.MeetingResponse;
-import com.aidea.backend.domain.meeting.dto.response.CreatorDto;
 import com.aidea.backend.domain.user.entity.UserInterest;
+import com.aidea.backend.domain.user.event.UserPreferenceChangedEvent;
+import com.aidea.backend.domain.user.event.UserProfileChangedEvent;
 import com.aidea.backend.domain.interest.repository.InterestRepository;
 import org.springframework.web.multipart.MultipartFile;
 import com.aidea.backend.global.secret.jwt.JwtTokenProvider;
@@ -18,6 +21,7 @@ import com.aidea.backend.global.secret.jwt.RefreshToken;
 import com.aidea.backend.global.secret.jwt.RefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,6 +41,8 @@ public class UserService {
         private final MeetingRepository meetingRepository;
         private final UserInterestRepository userInterestRepository;
         private final InterestRepository interestRepository;
+        private final ApplicationEventPublisher eventPublisher;
+        private final UserInterestMaskCache userInterestMaskCache;
 
         @Transactional
         public UserResponse joinUser(UserJoinDto dto) {
@@ -102,6 +108,9 @@ public class UserService {
                                 .build();
                 refreshTokenRepository.save(refreshTokenEntity);
 
+                // 추천용 관심사 비트셋 캐시 적재
+                userInterestMaskCache.refresh(user.getUserId());
+
                 UserResponse userResponse = new UserResponse(
                                 String.valueOf(user.getUserId()),
                                 user.getEmail(),
@@ -227,6 +236,8 @@ public class UserService {
 
                 User user = userRepository.findByEmail(email)
                                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+                String previousNickname = user.getNickname();
+                String previousProfileImage = user.getProfileImage();
 
                 user.update(
                                 dto.getNickname() != null ? dto.getNickname() : user.getNickname(),
@@ -240,6 +251,12 @@ public class UserService {
 
                 User updatedUser = userRepository.save(user);
 
+                // 모임 상세 캐시에 담긴 생성자 정보 무효화 (커밋 이후)
+                if (!java.util.Objects.equals(previousNickname, updatedUser.getNickname())
+                                || !java.util.Objects.equals(previousProfileImage, updatedUser.getProfileImage())) {
+                        eventPublisher.publishEvent(new UserProfileChangedEvent(updatedUser.getUserId()));
+                }
+
                 return new UserResponse(
                                 String.valueOf(updatedUser.getUserId()),
                                 updatedUser.getEmail(),
@@ -271,6 +288,7 @@ public class UserService {
 
                 user.setProfileImage(imageUrl);
                 userRepository.save(user);
+                eventPublisher.publishEvent(new UserProfileChangedEvent(user.getUserId()));
 
                 return new UpdateProfileImageResponse(imageUrl);
         }
@@ -288,6 +306,8 @@ public class UserService {
                 user.setLocationUpdatedAt(java.time.LocalDateTime.now());
 
                 userRepository.save(user);
+                eventPublisher.publishEvent(new UserPreferenceChangedEvent(
+                                UserPreferenceChangedEvent.Type.LOCATION, user.getUserId(), email));
 
                 UserResponse.Location location = new UserResponse.Location(
                                 dto.getLatitude(),
@@ -305,44 +325,17 @@ public class UserService {
                 User user = userRepository.findByEmail(email)
                                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
+                // 모임과 모임 생성자를 한 번에 조회 (참가 모임 수만큼의 지연 로딩 방지)
                 List<MeetingMember> meetingMembers;
                 if ("active".equals(status)) {
-                        meetingMembers = meetingMemberRepository.findByUser_UserIdAndStatusNot(
+                        meetingMembers = meetingMemberRepository.findWithMeetingByUserIdAndStatusNot(
                                         user.getUserId(), MemberStatus.LEFT);
                 } else {
-                        meetingMembers = meetingMemberRepository.findByUser_UserId(user.getUserId());
+                        meetingMembers = meetingMemberRepository.findWithMeetingByUserId(user.getUserId());
                 }
 
                 return meetingMembers.stream()
-                                .map(meetingMember -> {
-                                        var meeting = meetingMember.getMeeting();
-                                        return MeetingResponse.builder()
-                                                        .meetingId(meeting.getId())
-                                                        .title(meeting.getTitle())
-                                                        .description(meeting.getDescription())
-                                                        .imageUrl(meeting.getImageUrl())
-                                                        .category(meeting.getCategory())
-                                                        .categoryDisplayName(meeting.getCategory().getDisplayName())
-                                                        .region(meeting.getRegion())
-                                                        .regionFullName(meeting.getRegion().getFullName())
-                                                        .location(meeting.getLocation())
-                                                        .latitude(meeting.getLatitude())
-                                                        .longitude(meeting.getLongitude())
-                                                        .locationDetail(meeting.getLocationDetail())
-                                                        .maxMembers(meeting.getMaxMembers())
-                                                        .currentMembers(meeting.getCurrentMembers())
-                                                        .meetingDate(meeting.getMeetingDate())
-                                                        .status(meeting.getStatus())
-                                                        .isApprovalRequired(meeting.getIsApprovalRequired())
-                                                        .creator(CreatorDto.builder()
-                                                                        .userId(meeting.getCreator().getUserId())
-                                                                        .nickname(meeting.getCreator().getNickname())
-                                                                        .profileImage(meeting.getCreator().getProfileImage())
-                                                                        .build())
-                                                        .createdAt(meeting.getCreatedAt())
-                                                        .updatedAt(meeting.getUpdatedAt())
-                                                        .build();
-                                })
+                                .map(meetingMember -> meetingMember.getMeeting().toResponse())
                                 .collect(java.util.stream.Collectors.toList());
         }
 
@@ -353,33 +346,8 @@ public class UserService {
                 User user = userRepository.findByEmail(email)
                                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-                return meetingRepository.findByCreator_UserId(user.getUserId()).stream()
-                                .map(meeting -> MeetingResponse.builder()
-                                                .meetingId(meeting.getId())
-                                                .title(meeting.getTitle())
-                                                .description(meeting.getDescription())
-                                                .imageUrl(meeting.getImageUrl())
-                                                .category(meeting.getCategory())
-                                                .categoryDisplayName(meeting.getCategory().getDisplayName())
-                                                .region(meeting.getRegion())
-                                                .regionFullName(meeting.getRegion().getFullName())
-                                                .location(meeting.getLocation())
-                                                .latitude(meeting.getLatitude())
-                                                .longitude(meeting.getLongitude())
-                                                .locationDetail(meeting.getLocationDetail())
-                                                .maxMembers(meeting.getMaxMembers())
-                                                .currentMembers(meeting.getCurrentMembers())
-                                                .meetingDate(meeting.getMeetingDate())
-                                                .status(meeting.getStatus())
-                                                .isApprovalRequired(meeting.getIsApprovalRequired())
-                                                .creator(CreatorDto.builder()
-                                                                .userId(meeting.getCreator().getUserId())
-                                                                .nickname(meeting.getCreator().getNickname())
-                                                                .profileImage(meeting.getCreator().getProfileImage())
-                                                                .build())
-                                                .createdAt(meeting.getCreatedAt())
-                                                .updatedAt(meeting.getUpdatedAt())
-                                                .build())
+                return meetingRepository.findWithCreatorByCreatorUserId(user.getUserId()).stream()
+                                .map(Meeting::toResponse)
                                 .collect(java.util.stream.Collectors.toList());
         }
 
@@ -494,6 +462,8 @@ public class UserService {
 
                         userInterestRepository.saveAll(userInterests);
                 }
+                eventPublisher.publishEvent(new UserPreferenceChangedEvent(
+                                UserPreferenceChangedEvent.Type.INTERESTS, user.getUserId(), email));
 
                 log.info("사용자 관심사 업데이트 완료: email={}", email);
         }
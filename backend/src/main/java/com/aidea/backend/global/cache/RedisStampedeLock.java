@@ -0,0 +1,54 @@
+package com.aidea.backend.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시 적재용 짧은 분산 락 (Redis SET NX PX)
+ * - 캐시 미스 시 클러스터 전체에서 키당 한 인스턴스만 DB를 조회하도록 합니다
+ * - 락은 TTL로 반드시 풀리며, 해제는 자신이 건 락일 때만 삭제합니다 (토큰 비교)
+ * - Redis 장애 시 락을 잡은 것으로 간주해 조회를 막지 않습니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStampedeLock {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 락 획득 시도
+     *
+     * @return 해제용 토큰, 다른 인스턴스가 잡고 있으면 null
+     */
+    public String tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException e) {
+            log.warn("캐시 적재 락 획득 실패: key={}, cause={}", key, e.getMessage());
+            return token;
+        }
+    }
+
+    public void unlock(String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (RuntimeException e) {
+            log.warn("캐시 적재 락 해제 실패: key={}, cause={}", key, e.getMessage());
+        }
+    }
+}
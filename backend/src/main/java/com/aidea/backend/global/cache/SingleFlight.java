@@ -0,0 +1,52 @@
+package com.aidea.backend.global.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 키 단위 요청 합치기 (single-flight)
+ * - 같은 키로 동시에 들어온 조회 중 첫 호출(리더)만 loader를 실행하고, 나머지는 리더의 결과를 함께 받습니다
+ * - loader는 리더의 호출 스레드에서 실행되므로 리더의 트랜잭션/보안 컨텍스트를 그대로 씁니다
+ * - 결과는 저장하지 않습니다 (진행 중인 조회만 공유, 완료 즉시 제거) - 캐시는 호출하는 쪽의 책임입니다
+ * - loader 예외는 리더와 대기 중인 호출 모두에게 그대로 전파됩니다
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, call);
+        if (leader != null) {
+            return await(leader);
+        }
+
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
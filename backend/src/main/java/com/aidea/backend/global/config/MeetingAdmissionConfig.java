@@ -0,0 +1,33 @@
+package com.aidea.backend.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인기 모임 입장 대기열 설정
+ * - 모임별 소비자를 실행하는 전용 스레드 풀 (동시에 처리되는 모임 수의 상한)
+ */
+@Slf4j
+@Configuration
+public class MeetingAdmissionConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService meetingAdmissionExecutor(
+            @Value("${meeting.admission.consumer-threads:4}") int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "meeting-admission-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        log.info("입장 대기열 소비자 스레드 풀 초기화: threads={}", threads);
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+}
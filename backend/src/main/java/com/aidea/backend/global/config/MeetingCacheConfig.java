@@ -0,0 +1,25 @@
+package com.aidea.backend.global.config;
+
+import com.aidea.backend.domain.meeting.cache.MeetingDetailCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 모임 상세 캐시 설정
+ * - 인스턴스마다 무효화 채널을 구독해 로컬(Caffeine) 캐시 항목을 비웁니다
+ */
+@Configuration
+public class MeetingCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer meetingCacheListenerContainer(
+            RedisConnectionFactory connectionFactory, MeetingDetailCache meetingDetailCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(meetingDetailCache, new ChannelTopic(MeetingDetailCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,26 @@
+package com.aidea.backend.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 추천 점수 계산 설정
+ * - 후보가 많을 때 사용하는 전용 ForkJoinPool (공용 풀과 분리)
+ */
+@Slf4j
+@Configuration
+public class RecommendationConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool recommendationScoringPool(
+            @Value("${recommendation.parallel.parallelism:0}") int parallelism) {
+        // 0 이하이면 컨테이너에 할당된 CPU 수를 사용
+        int size = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        log.info("추천 채점 ForkJoinPool 초기화: parallelism={}", size);
+        return new ForkJoinPool(size);
+    }
+}
@@ -106,9 +106,15 @@ public class SecurityConfig {
 
                                                 // Group
                                                 .requestMatchers(HttpMethod.GET, "/api/groups", "/api/groups/{id}",
-                                                                "/api/groups/search", "/api/groups/{id}/members")
+                                                                "/api/groups/search", "/api/groups/{id}/members",
+                                                                "/api/groups/cursor", "/api/groups/search/cursor",
+                                                                "/api/groups/facets", "/api/groups/nearby",
+                                                                "/api/groups/clusters", "/api/groups/batch")
                                                 .permitAll()
 
+                                                // Search
+                                                .requestMatchers(HttpMethod.GET, "/api/search/autocomplete").permitAll()
+
                                                 .anyRequest().authenticated())
                                 .oauth2Login(oauth2 -> oauth2
                                                 .userInfoEndpoint(userInfo -> userInfo
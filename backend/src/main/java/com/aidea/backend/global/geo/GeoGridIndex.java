@@ -0,0 +1,126 @@
+package com.aidea.backend.global.geo;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 균일 격자(grid cell) 기반 좌표 인덱스
+ * - 위도/경도를 고정 크기(도 단위) 셀로 나누고, 셀별로 ID 집합을 보관합니다
+ * - 반경 검색 시 반경을 덮는 셀만 방문하므로 전체 좌표를 스캔하지 않습니다
+ * - 조회는 잠금 없이, 갱신은 ID 단위 일관성을 위해 동기화합니다
+ */
+public class GeoGridIndex {
+
+    /**
+     * 반경 검색 결과 콜백
+     */
+    @FunctionalInterface
+    public interface DistanceConsumer {
+        void accept(long id, double distanceMeters);
+    }
+
+    private final double cellSizeDegrees;
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    public GeoGridIndex(double cellSizeDegrees) {
+        if (cellSizeDegrees <= 0) {
+            throw new IllegalArgumentException("cellSizeDegrees must be positive: " + cellSizeDegrees);
+        }
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    /**
+     * 좌표 등록 (이미 있으면 이동)
+     */
+    public synchronized void put(long id, double latitude, double longitude) {
+        long cellKey = cellKey(cellIndex(latitude), cellIndex(longitude));
+        Point previous = points.put(id, new Point(latitude, longitude, cellKey));
+        if (previous != null && previous.cellKey != cellKey) {
+            removeFromCell(previous.cellKey, id);
+        }
+        cells.computeIfAbsent(cellKey, key -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    /**
+     * 좌표 제거
+     */
+    public synchronized void remove(long id) {
+        Point previous = points.remove(id);
+        if (previous != null) {
+            removeFromCell(previous.cellKey, id);
+        }
+    }
+
+    public boolean contains(long id) {
+        return points.containsKey(id);
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * 중심 좌표로부터 반경(미터) 이내의 모든 ID를 거리와 함께 전달합니다.
+     */
+    public void forEachWithin(double latitude, double longitude, double radiusMeters, DistanceConsumer consumer) {
+        double latDelta = radiusMeters / GeoUtils.METERS_PER_DEGREE_LAT;
+        double cosLat = Math.max(0.01, Math.cos(Math.toRadians(latitude)));
+        double lngDelta = radiusMeters / (GeoUtils.METERS_PER_DEGREE_LAT * cosLat);
+
+        long minLat = cellIndex(latitude - latDelta);
+        long maxLat = cellIndex(latitude + latDelta);
+        long minLng = cellIndex(longitude - lngDelta);
+        long maxLng = cellIndex(longitude + lngDelta);
+
+        for (long latIndex = minLat; latIndex <= maxLat; latIndex++) {
+            for (long lngIndex = minLng; lngIndex <= maxLng; lngIndex++) {
+                Set<Long> ids = cells.get(cellKey(latIndex, lngIndex));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    Point point = points.get(id);
+                    if (point == null) {
+                        continue;
+                    }
+                    double distance = GeoUtils.haversineMeters(latitude, longitude, point.latitude, point.longitude);
+                    if (distance <= radiusMeters) {
+                        consumer.accept(id, distance);
+                    }
+                }
+            }
+        }
+    }
+
+    private void removeFromCell(long cellKey, long id) {
+        Set<Long> ids = cells.get(cellKey);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                cells.remove(cellKey);
+            }
+        }
+    }
+
+    private long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / cellSizeDegrees);
+    }
+
+    private static long cellKey(long latIndex, long lngIndex) {
+        return (latIndex << 32) ^ (lngIndex & 0xffffffffL);
+    }
+
+    private static final class Point {
+        private final double latitude;
+        private final double longitude;
+        private final long cellKey;
+
+        private Point(double latitude, double longitude, long cellKey) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.cellKey = cellKey;
+        }
+    }
+}
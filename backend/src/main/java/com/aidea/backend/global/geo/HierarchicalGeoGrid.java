@@ -0,0 +1,155 @@
+package com.aidea.backend.global.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 줌 레벨별 격자 집계 (지도 마커 클러스터링용)
+ * - 웹 메르카토르 타일(256px)을 CELLS_PER_TILE × CELLS_PER_TILE 셀로 나누고, 줌 0~maxZoom 모든 레벨에 셀별 개수/좌표 합을 보관합니다
+ * - 좌표 하나를 추가/제거할 때 레벨마다 셀 하나만 갱신하므로 증분 유지 비용은 O(레벨 수)입니다
+ * - 셀 값은 불변 객체로 교체하므로 조회는 잠금 없이 셀 단위로 일관된 값을 읽습니다 (갱신은 동기화)
+ * - 셀에 좌표가 하나만 남으면 ID 합이 곧 그 좌표의 ID입니다
+ */
+public class HierarchicalGeoGrid {
+
+    public static final int CELLS_PER_TILE = 4; // 셀 한 변 = 64px
+
+    /**
+     * 집계 결과 (count == 1이면 id는 그 좌표의 ID, 아니면 null)
+     */
+    public record Cluster(double latitude, double longitude, int count, Long id) {
+    }
+
+    private record Cell(int count, double sumLatitude, double sumLongitude, long sumId) {
+
+        Cell plus(double latitude, double longitude, long id, int sign) {
+            return new Cell(count + sign, sumLatitude + sign * latitude, sumLongitude + sign * longitude, sumId + sign * id);
+        }
+    }
+
+    private record Point(double latitude, double longitude) {
+    }
+
+    private final int maxZoom;
+    private final List<Map<Long, Cell>> levels;
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+
+    public HierarchicalGeoGrid(int maxZoom) {
+        this.maxZoom = maxZoom;
+        this.levels = new ArrayList<>(maxZoom + 1);
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            levels.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 좌표 등록 (이미 있으면 이동)
+     */
+    public synchronized void put(long id, double latitude, double longitude) {
+        Point previous = points.put(id, new Point(latitude, longitude));
+        if (previous != null) {
+            apply(id, previous.latitude(), previous.longitude(), -1);
+        }
+        apply(id, latitude, longitude, 1);
+    }
+
+    /**
+     * 좌표 제거
+     */
+    public synchronized void remove(long id) {
+        Point previous = points.remove(id);
+        if (previous != null) {
+            apply(id, previous.latitude(), previous.longitude(), -1);
+        }
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * 영역 안의 클러스터
+     * - 영역을 덮는 셀이 maxCells를 넘으면 넘지 않을 때까지 한 단계씩 낮은 줌으로 집계합니다 (응답 크기 상한)
+     */
+    public List<Cluster> clusters(double south, double west, double north, double east, int zoom, int maxCells) {
+        int level = Math.max(0, Math.min(zoom, maxZoom));
+        long minX, maxX, minY, maxY;
+        while (true) {
+            long cells = cellsPerAxis(level);
+            minX = cellIndex(mercatorX(west), cells);
+            maxX = cellIndex(mercatorX(east), cells);
+            minY = cellIndex(mercatorY(north), cells); // 메르카토르 y는 북쪽이 작음
+            maxY = cellIndex(mercatorY(south), cells);
+            if (level == 0 || (maxX - minX + 1) * (maxY - minY + 1) <= maxCells) {
+                break;
+            }
+            level--;
+        }
+
+        Map<Long, Cell> cells = levels.get(level);
+        List<Cluster> result = new ArrayList<>();
+        long area = (maxX - minX + 1) * (maxY - minY + 1);
+        if (area <= cells.size()) {
+            for (long x = minX; x <= maxX; x++) {
+                for (long y = minY; y <= maxY; y++) {
+                    Cell cell = cells.get(cellKey(x, y));
+                    if (cell != null) {
+                        result.add(toCluster(cell));
+                    }
+                }
+            }
+        } else {
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                long x = entry.getKey() >>> 32;
+                long y = entry.getKey() & 0xffffffffL;
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                    result.add(toCluster(entry.getValue()));
+                }
+            }
+        }
+        return result;
+    }
+
+    private void apply(long id, double latitude, double longitude, int sign) {
+        double x = mercatorX(longitude);
+        double y = mercatorY(latitude);
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            long cells = cellsPerAxis(zoom);
+            long key = cellKey(cellIndex(x, cells), cellIndex(y, cells));
+            levels.get(zoom).compute(key, (k, cell) -> {
+                Cell updated = (cell != null ? cell : new Cell(0, 0, 0, 0)).plus(latitude, longitude, id, sign);
+                return updated.count() > 0 ? updated : null;
+            });
+        }
+    }
+
+    private static Cluster toCluster(Cell cell) {
+        return new Cluster(cell.sumLatitude() / cell.count(), cell.sumLongitude() / cell.count(),
+                cell.count(), cell.count() == 1 ? cell.sumId() : null);
+    }
+
+    private static long cellsPerAxis(int zoom) {
+        return (1L << zoom) * CELLS_PER_TILE;
+    }
+
+    private static long cellIndex(double unit, long cells) {
+        return Math.max(0, Math.min(cells - 1, (long) Math.floor(unit * cells)));
+    }
+
+    private static long cellKey(long x, long y) {
+        return (x << 32) | y;
+    }
+
+    // 경도 → [0, 1]
+    private static double mercatorX(double longitude) {
+        return (longitude + 180.0) / 360.0;
+    }
+
+    // 위도 → [0, 1] (북쪽이 0, 메르카토르 한계 위도 밖은 잘라냄)
+    private static double mercatorY(double latitude) {
+        double sin = Math.sin(Math.toRadians(Math.max(-85.05112878, Math.min(85.05112878, latitude))));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+}
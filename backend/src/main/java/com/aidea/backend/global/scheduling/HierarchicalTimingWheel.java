@@ -0,0 +1,102 @@
+package com.aidea.backend.global.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠
+ * - 1단 휠은 tickMillis 간격 wheelSize개 버킷이고 (만료 지연은 최대 1 tick), 범위를 넘는 마감은 tick이 wheelSize배인 상위 휠에 둡니다
+ * - 상위 휠 버킷이 돌아오면 항목을 하위 휠로 내려 다시 배치하므로, 등록/만료 모두 항목당 O(휠 단수)입니다
+ * - 취소는 지원하지 않습니다. 호출하는 쪽이 만료 시점에 항목이 아직 유효한지 확인합니다
+ * - 스레드 안전하지 않습니다 (호출하는 쪽에서 동기화)
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long intervalMillis;
+    private final List<List<Entry<T>>> buckets;
+    private long currentTime; // tickMillis 배수로 내림한 현재 시각
+    private HierarchicalTimingWheel<T> overflowWheel;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.intervalMillis = tickMillis * wheelSize;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+    }
+
+    /**
+     * 마감 시각에 항목 등록 (마감 시각을 tick 단위로 올림하므로 마감 전에 만료되지 않습니다)
+     *
+     * @return 이미 마감이 지나 등록하지 않았으면 false - 호출하는 쪽에서 바로 처리합니다
+     */
+    public boolean add(T item, long expirationMillis) {
+        return add(new Entry<>(item, expirationMillis + Math.floorMod(-expirationMillis, tickMillis)));
+    }
+
+    /**
+     * 현재 시각까지 휠을 돌려 마감된 항목을 전달합니다.
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+            if (overflowWheel != null) {
+                overflowWheel.advanceTo(currentTime, this, expired);
+            }
+            flush(bucketAt(currentTime), this, expired);
+        }
+    }
+
+    private boolean add(Entry<T> entry) {
+        if (entry.expirationMillis < currentTime + tickMillis) {
+            return false;
+        }
+        if (entry.expirationMillis < currentTime + intervalMillis) {
+            bucketAt(entry.expirationMillis).add(entry);
+            return true;
+        }
+        if (overflowWheel == null) {
+            overflowWheel = new HierarchicalTimingWheel<>(intervalMillis, wheelSize, currentTime);
+        }
+        return overflowWheel.add(entry);
+    }
+
+    /**
+     * 상위 휠: 하위 휠 시각을 따라가며, 돌아온 버킷의 항목을 최하위 휠(root)에 다시 배치합니다.
+     */
+    private void advanceTo(long timeMillis, HierarchicalTimingWheel<T> root, Consumer<T> expired) {
+        while (currentTime + tickMillis <= timeMillis) {
+            currentTime += tickMillis;
+            if (overflowWheel != null) {
+                overflowWheel.advanceTo(currentTime, root, expired);
+            }
+            flush(bucketAt(currentTime), root, expired);
+        }
+    }
+
+    private List<Entry<T>> bucketAt(long timeMillis) {
+        return buckets.get((int) Math.floorMod(timeMillis / tickMillis, (long) wheelSize));
+    }
+
+    private static <T> void flush(List<Entry<T>> bucket, HierarchicalTimingWheel<T> root, Consumer<T> expired) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Entry<T>> entries = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Entry<T> entry : entries) {
+            if (!root.add(entry)) {
+                expired.accept(entry.item);
+            }
+        }
+    }
+
+    private record Entry<T>(T item, long expirationMillis) {
+    }
+}
@@ -2,11 +2,13 @@ package com.aidea.backend.global.secret.oauth;
 
 import com.aidea.backend.domain.user.entity.User;
 import com.aidea.backend.domain.user.enums.Provider;
+import com.aidea.backend.domain.user.event.UserProfileChangedEvent;
 import com.aidea.backend.domain.user.repository.UserRepository;
 import com.aidea.backend.global.secret.oauth.user.KakaoUserInfo;
 import com.aidea.backend.global.secret.oauth.user.OAuth2UserInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -24,6 +26,7 @@ import java.util.Optional;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -62,27 +65,38 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         Optional<User> userOptional = userRepository.findByEmail(email);
 
         User user;
+        boolean profileChanged = false;
         if (userOptional.isPresent()) {
             // 기존 사용자 업데이트
             user = userOptional.get();
             log.info("기존 OAuth2 사용자 정보 업데이트: {}", email);
-            updateExistingUser(user, oAuth2UserInfo);
+            profileChanged = updateExistingUser(user, oAuth2UserInfo);
         } else {
             // 새 사용자 생성
             log.info("새로운 OAuth2 사용자 생성: {}", email);
             user = createNewUser(oAuth2UserInfo);
         }
         userRepository.save(user);
+        if (profileChanged) {
+            eventPublisher.publishEvent(new UserProfileChangedEvent(user.getUserId()));
+        }
     }
 
-    private void updateExistingUser(User user, OAuth2UserInfo oAuth2UserInfo) {
+    /**
+     * @return 닉네임/프로필 이미지가 바뀌었으면 true
+     */
+    private boolean updateExistingUser(User user, OAuth2UserInfo oAuth2UserInfo) {
         // 필요한 경우 정보 업데이트
+        boolean changed = false;
         if (!user.getNickname().equals(oAuth2UserInfo.getName())) {
             user.setNickname(oAuth2UserInfo.getName());
+            changed = true;
         }
         if (!user.getProfileImage().equals(oAuth2UserInfo.getImageUrl())) {
             user.setProfileImage(oAuth2UserInfo.getImageUrl());
+            changed = true;
         }
+        return changed;
     }
 
     private User createNewUser(OAuth2UserInfo oAuth2UserInfo) {
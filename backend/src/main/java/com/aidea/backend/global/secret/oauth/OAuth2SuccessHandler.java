@@ -1,5 +1,6 @@
 package com.aidea.backend.global.secret.oauth;
 
+import com.aidea.backend.domain.user.cache.UserInterestMaskCache;
 import com.aidea.backend.domain.user.entity.User;
 import com.aidea.backend.domain.user.repository.UserRepository;
 import com.aidea.backend.global.secret.jwt.JwtTokenProvider;
@@ -29,6 +30,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
+    private final UserInterestMaskCache userInterestMaskCache;
 
     @Value("${app.oauth2.authorized-redirect-uris:http://localhost:5173/oauth/callback}")
     private String redirectUri;
@@ -68,6 +70,9 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
                 .build();
         refreshTokenRepository.save(refreshTokenEntity);
 
+        // 추천용 관심사 비트셋 캐시 적재
+        userInterestMaskCache.refresh(user.getUserId());
+
         // Frontend로 리다이렉트 (두 토큰 모두 전달)
         String targetUrl = UriComponentsBuilder.fromUriString(redirectUri)
                 .queryParam("accessToken", accessToken)
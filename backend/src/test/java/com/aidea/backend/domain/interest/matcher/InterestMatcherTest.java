@@ -0,0 +1,134 @@
+package com.aidea.backend.domain.interest.matcher;
+
+import com.aidea.backend.domain.interest.entity.Interest;
+import com.aidea.backend.domain.interest.repository.InterestRepository;
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import com.aidea.backend.domain.user.entity.User;
+import com.aidea.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관심사 비트 위치 테스트
+ * - 관심사를 삭제/추가해도 남은 관심사의 비트가 바뀌지 않고, 매핑에 없는 ID는 무시되는지 확인합니다
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(InterestMatcher.class)
+class InterestMatcherTest {
+
+  @Autowired
+  private InterestMatcher interestMatcher;
+
+  @Autowired
+  private InterestRepository interestRepository;
+
+  @Autowired
+  private MeetingRepository meetingRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Test
+  @DisplayName("관심사를 삭제하고 추가해도 남은 관심사의 비트는 그대로다")
+  void keepsBitsAcrossCatalogChanges() {
+    Interest soccer = save("축구");
+    Interest basketball = save("농구");
+    Interest swimming = save("수영");
+    interestMatcher.load();
+    assertThat(bits(soccer, basketball, swimming)).containsExactly(1L, 2L, 4L);
+
+    interestRepository.delete(soccer);
+    Interest tennis = save("테니스");
+    interestMatcher.load();
+
+    assertThat(bits(basketball, swimming)).containsExactly(2L, 4L);
+    assertThat(interestMatcher.mask(List.of(tennis.getInterestId()))).isEqualTo(1L); // 삭제된 비트 재사용
+  }
+
+  @Test
+  @DisplayName("비트를 재사용하면 저장된 모임 비트셋을 비워 다시 태깅하게 한다")
+  void clearsMeetingMasksWhenBitsChange() {
+    Interest soccer = save("축구");
+    save("농구");
+    interestMatcher.load();
+    Meeting meeting = saveMeeting();
+    meetingRepository.updateInterestMask(meeting.getId(), 1L);
+    int version = interestMatcher.maskVersion();
+
+    interestRepository.delete(soccer);
+    save("테니스");
+    interestMatcher.load();
+    entityManager.clear();
+
+    assertThat(meetingRepository.findUntaggedAfter(0L, PageRequest.ofSize(10)))
+        .extracting(Meeting::getId)
+        .containsExactly(meeting.getId());
+    assertThat(interestMatcher.maskVersion()).isNotEqualTo(version);
+  }
+
+  @Test
+  @DisplayName("매핑에 없는 관심사 ID는 예외 없이 무시한다")
+  void ignoresUnknownIds() {
+    Interest soccer = save("축구");
+    interestMatcher.load();
+
+    assertThat(interestMatcher.mask(List.of(soccer.getInterestId(), 999_999L))).isEqualTo(1L);
+    assertThat(interestMatcher.mask(List.of(999_999L))).isZero();
+  }
+
+  private Interest save(String name) {
+    Interest interest = interestRepository.save(Interest.builder()
+        .interestName(name)
+        .category("운동/스포츠")
+        .build());
+    entityManager.flush();
+    return interest;
+  }
+
+  private List<Long> bits(Interest... interests) {
+    return Arrays.stream(interests)
+        .map(interest -> interestMatcher.mask(List.of(interest.getInterestId())))
+        .toList();
+  }
+
+  private Meeting saveMeeting() {
+    User host = userRepository.save(User.builder()
+        .email("host@aidea.test")
+        .password("password")
+        .nickname("host")
+        .build());
+    Meeting meeting = meetingRepository.save(Meeting.builder()
+        .title("관심사 테스트 모임")
+        .category(MeetingCategory.HOBBY_LEISURE)
+        .region(Region.SEOUL_GANGNAM)
+        .location("서울 강남구")
+        .maxMembers(5)
+        .meetingDate(LocalDateTime.now().plusDays(7))
+        .isApprovalRequired(false)
+        .creator(host)
+        .build());
+    entityManager.flush();
+    return meeting;
+  }
+}
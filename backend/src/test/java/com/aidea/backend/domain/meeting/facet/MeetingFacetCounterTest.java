@@ -0,0 +1,115 @@
+package com.aidea.backend.domain.meeting.facet;
+
+import com.aidea.backend.domain.meeting.dto.projection.MeetingFacetCountView;
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingStatus;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 패싯 카운터 재집계 테스트
+ * - 재집계 쿼리가 도는 동안 들어온 증감이 교체 후에도 남는지 확인합니다
+ */
+class MeetingFacetCounterTest {
+
+    private static final MeetingCategory CATEGORY = MeetingCategory.HOBBY_LEISURE;
+    private static final Region REGION = Region.SEOUL_GANGNAM;
+
+    private MeetingRepository meetingRepository;
+    private MeetingFacetCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository = mock(MeetingRepository.class);
+        counter = new MeetingFacetCounter(meetingRepository);
+    }
+
+    @Test
+    @DisplayName("재집계 중 생성/종료된 모임은 교체된 카운트에 다시 반영된다")
+    void replaysDeltasReceivedDuringReseed() {
+        Meeting created = meeting(10L);
+        MeetingSnapshot completing = MeetingSnapshot.from(meeting(1L));
+        when(meetingRepository.countGroupByCategoryAndRegionAndStatus()).thenAnswer(invocation -> {
+            // 집계 쿼리 시작 이후 커밋된 변경 (쿼리 결과에는 없음)
+            counter.onMeetingChanged(MeetingChangedEvent.created(created));
+            counter.onMeetingChanged(MeetingChangedEvent.updated(completing, completing.withStatus(MeetingStatus.COMPLETED)));
+            return List.of(row(MeetingStatus.RECRUITING, 3));
+        });
+
+        counter.reseed();
+
+        assertThat(total(MeetingStatus.RECRUITING)).isEqualTo(3 + 1 - 1);
+        assertThat(total(MeetingStatus.COMPLETED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재집계가 실패하면 기존 카운트를 유지하고 이후 증감도 그대로 반영한다")
+    void keepsCountsWhenReseedFails() {
+        when(meetingRepository.countGroupByCategoryAndRegionAndStatus())
+                .thenReturn(List.of(row(MeetingStatus.RECRUITING, 2)))
+                .thenThrow(new IllegalStateException("db down"));
+        counter.reseed();
+
+        assertThatThrownBy(counter::reseed).isInstanceOf(IllegalStateException.class);
+        counter.onMeetingChanged(MeetingChangedEvent.created(meeting(10L)));
+
+        assertThat(total(MeetingStatus.RECRUITING)).isEqualTo(3);
+    }
+
+    private int total(MeetingStatus status) {
+        return counter.getCounts(null, null, status).getTotal();
+    }
+
+    private static Meeting meeting(Long id) {
+        Meeting meeting = Meeting.builder()
+                .title("패싯 테스트 모임")
+                .category(CATEGORY)
+                .region(REGION)
+                .location("서울 강남구")
+                .maxMembers(5)
+                .meetingDate(LocalDateTime.now().plusDays(7))
+                .isApprovalRequired(false)
+                .build();
+        ReflectionTestUtils.setField(meeting, "id", id);
+        return meeting;
+    }
+
+    private static MeetingFacetCountView row(MeetingStatus status, long count) {
+        return new MeetingFacetCountView() {
+            @Override
+            public MeetingCategory getCategory() {
+                return CATEGORY;
+            }
+
+            @Override
+            public Region getRegion() {
+                return REGION;
+            }
+
+            @Override
+            public MeetingStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.aidea.backend.domain.meeting.lifecycle;
+
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import com.aidea.backend.domain.meeting.event.MeetingChangedEvent;
+import com.aidea.backend.domain.meeting.event.MeetingSnapshot;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 생명주기 스케줄러의 마감 취소 테스트
+ * - 타이밍 휠은 항목을 지우지 않으므로, 취소/재등록된 마감이 만료 시점에 무시되는지 확인합니다
+ */
+class MeetingLifecycleSchedulerTest {
+
+    private TransactionTemplate transactionTemplate;
+    private MeetingLifecycleScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenReturn(0);
+        scheduler = new MeetingLifecycleScheduler(
+                mock(MeetingRepository.class), transactionTemplate, mock(ApplicationEventPublisher.class), 24);
+    }
+
+    @Test
+    @DisplayName("마감이 지난 모임은 다음 tick에 종료 처리한다")
+    void completesDueMeeting() {
+        Meeting meeting = meeting(1L, LocalDateTime.now().minusMinutes(1));
+        scheduler.onMeetingChanged(MeetingChangedEvent.created(meeting));
+
+        scheduler.tick();
+        scheduler.tick();
+
+        verify(transactionTemplate, times(1)).execute(any());
+    }
+
+    @Test
+    @DisplayName("삭제된 모임의 마감은 취소되어 종료 처리하지 않는다")
+    void cancelsDeletedMeeting() {
+        Meeting meeting = meeting(1L, LocalDateTime.now().minusMinutes(1));
+        scheduler.onMeetingChanged(MeetingChangedEvent.created(meeting));
+        scheduler.onMeetingChanged(MeetingChangedEvent.deleted(MeetingSnapshot.from(meeting)));
+
+        scheduler.tick();
+
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("모임 날짜가 horizon 밖으로 미뤄지면 이전 마감은 무시한다")
+    void ignoresRescheduledDeadline() {
+        Meeting meeting = meeting(1L, LocalDateTime.now().minusMinutes(1));
+        scheduler.onMeetingChanged(MeetingChangedEvent.created(meeting));
+        MeetingSnapshot before = MeetingSnapshot.from(meeting);
+        scheduler.onMeetingChanged(MeetingChangedEvent.updated(before, meeting(1L, LocalDateTime.now().plusDays(7))));
+
+        scheduler.tick();
+
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    private static Meeting meeting(Long id, LocalDateTime meetingDate) {
+        Meeting meeting = Meeting.builder()
+                .title("생명주기 테스트 모임")
+                .category(MeetingCategory.HOBBY_LEISURE)
+                .region(Region.SEOUL_GANGNAM)
+                .location("서울 강남구")
+                .maxMembers(5)
+                .meetingDate(meetingDate)
+                .isApprovalRequired(false)
+                .build();
+        ReflectionTestUtils.setField(meeting, "id", id);
+        return meeting;
+    }
+}
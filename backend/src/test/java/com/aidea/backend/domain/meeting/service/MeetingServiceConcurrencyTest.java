@@ -0,0 +1,266 @@
+package com.aidea.backend.domain.meeting.service;
+
+import com.aidea.backend.domain.interest.matcher.InterestMatcher;
+import com.aidea.backend.domain.meeting.cache.MeetingDetailCache;
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.entity.MeetingMember;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.MemberStatus;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import com.aidea.backend.domain.meeting.repository.MeetingMemberRepository;
+import com.aidea.backend.domain.meeting.repository.MeetingRepository;
+import com.aidea.backend.domain.recommendation.index.RecruitingMeetingIndex;
+import com.aidea.backend.domain.search.service.MeetingSearchService;
+import com.aidea.backend.domain.user.entity.User;
+import com.aidea.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 참가 신청 / 승인 동시성 테스트
+ * - 같은 모임에 참가 신청과 승인을 동시에 몰아넣어도 정원을 넘지 않고,
+ *   승인된 멤버 수(HOST 포함)와 현재 인원이 항상 일치하는지 확인합니다
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MeetingService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 실제로 커밋되는 트랜잭션 사용
+class MeetingServiceConcurrencyTest {
+
+    private static final int MAX_MEMBERS = 5;
+    private static final int APPLICANTS = 30;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingMemberRepository meetingMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private InterestMatcher interestMatcher;
+
+    @MockitoBean
+    private MeetingDetailCache meetingDetailCache;
+
+    @MockitoBean
+    private MeetingSearchService meetingSearchService;
+
+    @MockitoBean
+    private RecruitingMeetingIndex recruitingMeetingIndex;
+
+    @AfterEach
+    void tearDown() {
+        meetingMemberRepository.deleteAllInBatch();
+        meetingRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("자동 승인 모임에 동시 참가 신청 시 정원을 넘지 않고 나머지는 대기열로 간다")
+    void concurrentJoinsNeverOverbook() throws Exception {
+        User host = saveUser("host");
+        Meeting meeting = saveMeeting(host, false);
+        List<User> applicants = saveUsers("applicant", APPLICANTS);
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (User applicant : applicants) {
+            tasks.add(() -> meetingService.joinMeeting(meeting.getId(), applicant.getUserId()));
+        }
+        runConcurrently(tasks);
+
+        assertSeatInvariant(meeting.getId());
+        assertThat(meetingRepository.findById(meeting.getId()).orElseThrow().getCurrentMembers())
+                .isEqualTo(MAX_MEMBERS);
+        assertThat(meetingMemberRepository.findByMeetingIdAndStatus(meeting.getId(), MemberStatus.WAITLISTED))
+                .hasSize(APPLICANTS - (MAX_MEMBERS - 1));
+    }
+
+    @Test
+    @DisplayName("승인 필요 모임에 참가 신청과 승인이 동시에 몰려도 정원을 넘지 않는다")
+    void concurrentJoinsAndApprovalsNeverOverbook() throws Exception {
+        User host = saveUser("host");
+        Meeting meeting = saveMeeting(host, true);
+        List<User> applicants = saveUsers("applicant", APPLICANTS);
+        List<Long> pendingMemberIds = join(meeting, applicants.subList(0, APPLICANTS / 2));
+
+        // 남은 좌석보다 많은 승인 요청과 나머지 사용자의 참가 신청을 동시에 처리
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (Long memberId : pendingMemberIds) {
+            tasks.add(() -> meetingService.approveJoinRequest(meeting.getId(), memberId, host.getUserId()));
+        }
+        for (User user : applicants.subList(APPLICANTS / 2, APPLICANTS)) {
+            tasks.add(() -> meetingService.joinMeeting(meeting.getId(), user.getUserId()));
+        }
+        runConcurrently(tasks);
+
+        assertSeatInvariant(meeting.getId());
+        assertThat(meetingRepository.findById(meeting.getId()).orElseThrow().getCurrentMembers())
+                .isEqualTo(MAX_MEMBERS);
+    }
+
+    @Test
+    @DisplayName("같은 신청을 동시에 여러 번 승인해도 좌석은 한 번만 예약된다")
+    void duplicateApprovalsReserveOneSeat() throws Exception {
+        User host = saveUser("host");
+        Meeting meeting = saveMeeting(host, true);
+        List<Long> pendingMemberIds = join(meeting, saveUsers("applicant", 2));
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (Long memberId : pendingMemberIds) {
+            for (int i = 0; i < 3; i++) {
+                tasks.add(() -> meetingService.approveJoinRequest(meeting.getId(), memberId, host.getUserId()));
+            }
+        }
+        runConcurrently(tasks);
+
+        assertSeatInvariant(meeting.getId());
+        assertThat(meetingRepository.findById(meeting.getId()).orElseThrow().getCurrentMembers())
+                .isEqualTo(1 + pendingMemberIds.size());
+    }
+
+    @Test
+    @DisplayName("승인된 멤버나 다른 모임의 신청은 거절할 수 없다")
+    void rejectOnlyPendingRequestsOfTheMeeting() {
+        User host = saveUser("host");
+        Meeting meeting = saveMeeting(host, true);
+        Meeting other = saveMeeting(host, true);
+        List<Long> memberIds = join(meeting, saveUsers("applicant", 2));
+        meetingService.approveJoinRequest(meeting.getId(), memberIds.get(0), host.getUserId());
+
+        assertThatThrownBy(() -> meetingService.rejectJoinRequest(meeting.getId(), memberIds.get(0), host.getUserId()))
+                .hasMessage("승인 대기 중인 신청이 아닙니다.");
+        assertThatThrownBy(() -> meetingService.rejectJoinRequest(other.getId(), memberIds.get(1), host.getUserId()))
+                .hasMessage("참가 신청을 찾을 수 없습니다.");
+        meetingService.rejectJoinRequest(meeting.getId(), memberIds.get(1), host.getUserId());
+
+        assertSeatInvariant(meeting.getId());
+        assertThat(meetingMemberRepository.findById(memberIds.get(1)).orElseThrow().getStatus())
+                .isEqualTo(MemberStatus.REJECTED);
+    }
+
+    @Test
+    @DisplayName("같은 신청을 동시에 승인/거절해도 승인된 멤버 수와 현재 인원이 일치한다")
+    void concurrentApproveAndRejectKeepSeatInvariant() throws Exception {
+        User host = saveUser("host");
+        Meeting meeting = saveMeeting(host, true);
+        List<Long> pendingMemberIds = join(meeting, saveUsers("applicant", MAX_MEMBERS - 1));
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (Long memberId : pendingMemberIds) {
+            tasks.add(() -> meetingService.approveJoinRequest(meeting.getId(), memberId, host.getUserId()));
+            tasks.add(() -> {
+                meetingService.rejectJoinRequest(meeting.getId(), memberId, host.getUserId());
+                return null;
+            });
+        }
+        runConcurrently(tasks);
+
+        assertSeatInvariant(meeting.getId());
+    }
+
+    private List<Long> join(Meeting meeting, List<User> users) {
+        List<Long> memberIds = new ArrayList<>();
+        for (User user : users) {
+            memberIds.add(meetingService.joinMeeting(meeting.getId(), user.getUserId()).getMemberId());
+        }
+        return memberIds;
+    }
+
+    /**
+     * 현재 인원 ≤ 정원, 승인된 멤버 수(HOST 포함) == 현재 인원
+     */
+    private void assertSeatInvariant(Long meetingId) {
+        Meeting meeting = meetingRepository.findById(meetingId).orElseThrow();
+        int approved = meetingMemberRepository.findByMeetingIdAndStatus(meetingId, MemberStatus.APPROVED).size();
+        assertThat(meeting.getCurrentMembers()).isLessThanOrEqualTo(meeting.getMaxMembers());
+        assertThat(approved).isEqualTo(meeting.getCurrentMembers());
+    }
+
+    /**
+     * 모든 작업을 동시에 출발시키고 끝날 때까지 대기 (개별 작업의 예외(정원 초과, 중복 승인 등)는 무시)
+     */
+    private void runConcurrently(List<Callable<Object>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Object> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (java.util.concurrent.ExecutionException ignored) {
+                    // 거절된 요청은 상태를 바꾸지 않아야 하며, 이는 불변식 검사로 확인함
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User saveUser(String name) {
+        return userRepository.save(User.builder()
+                .email(name + "@aidea.test")
+                .password("password")
+                .nickname(name)
+                .build());
+    }
+
+    private List<User> saveUsers(String prefix, int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(saveUser(prefix + i));
+        }
+        return users;
+    }
+
+    private Meeting saveMeeting(User host, boolean approvalRequired) {
+        Meeting meeting = meetingRepository.save(Meeting.builder()
+                .title("동시성 테스트 모임")
+                .description("정원 검증")
+                .category(MeetingCategory.HOBBY_LEISURE)
+                .region(Region.SEOUL_GANGNAM)
+                .location("서울 강남구")
+                .maxMembers(MAX_MEMBERS)
+                .meetingDate(LocalDateTime.now().plusDays(7))
+                .isApprovalRequired(approvalRequired)
+                .creator(host)
+                .build());
+        meetingMemberRepository.save(MeetingMember.createHost(meeting, host));
+        return meeting;
+    }
+}
@@ -0,0 +1,93 @@
+package com.aidea.backend.domain.recommendation.scoring;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 지역 점수 저장소 벤치마크 (수동 실행용, 테스트 스위트에 포함되지 않음)
+ * - 추천 요청 한 번을 흉내 냅니다: 반경 이내 후보 NEARBY개의 점수를 채운 뒤, 전체 후보 CANDIDATES개를 조회
+ * - 박싱 HashMap&lt;Long, Double&gt;(이전 구현)과 LongDoubleHashMap의 요청당 시간/할당량을 비교합니다
+ *
+ * <pre>
+ * gradle testClasses
+ * java -cp build/classes/java/test:build/classes/java/main \
+ *     com.aidea.backend.domain.recommendation.scoring.LocationScoreBenchmark
+ * </pre>
+ */
+public final class LocationScoreBenchmark {
+
+    private static final int CANDIDATES = 50_000;
+    private static final int NEARBY = 5_000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 500;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static double sink;
+
+    private LocationScoreBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        long[] candidateIds = new long[CANDIDATES];
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidateIds[i] = i + 1L;
+        }
+        long[] nearbyIds = new long[NEARBY];
+        double[] nearbyScores = new double[NEARBY];
+        for (int i = 0; i < NEARBY; i++) {
+            nearbyIds[i] = candidateIds[random.nextInt(CANDIDATES)];
+            nearbyScores[i] = random.nextDouble() * ScoringContext.LOCATION_WEIGHT;
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            boxed(candidateIds, nearbyIds, nearbyScores);
+            primitive(candidateIds, nearbyIds, nearbyScores);
+        }
+        report("HashMap<Long, Double>", () -> boxed(candidateIds, nearbyIds, nearbyScores));
+        report("LongDoubleHashMap", () -> primitive(candidateIds, nearbyIds, nearbyScores));
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static void report(String name, Runnable request) {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            request.run();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("%-22s %8.1f us/request %10d bytes/request%n",
+                name, elapsed / 1_000.0 / MEASURED_ROUNDS, allocated / MEASURED_ROUNDS);
+    }
+
+    private static void boxed(long[] candidateIds, long[] nearbyIds, double[] nearbyScores) {
+        Map<Long, Double> scores = new HashMap<>();
+        for (int i = 0; i < nearbyIds.length; i++) {
+            scores.put(nearbyIds[i], nearbyScores[i]);
+        }
+        double total = 0.0;
+        for (long candidateId : candidateIds) {
+            Double score = scores.get(candidateId);
+            total += score != null ? score : 0.0;
+        }
+        sink += total;
+    }
+
+    private static void primitive(long[] candidateIds, long[] nearbyIds, double[] nearbyScores) {
+        LongDoubleHashMap scores = new LongDoubleHashMap();
+        for (int i = 0; i < nearbyIds.length; i++) {
+            scores.put(nearbyIds[i], nearbyScores[i]);
+        }
+        double total = 0.0;
+        for (long candidateId : candidateIds) {
+            total += scores.get(candidateId, 0.0);
+        }
+        sink += total;
+    }
+}
@@ -0,0 +1,50 @@
+package com.aidea.backend.domain.recommendation.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongDoubleHashMapTest {
+
+    @Test
+    @DisplayName("없는 키는 기본값을 반환하고, 같은 키는 덮어쓴다")
+    void putAndGet() {
+        LongDoubleHashMap map = new LongDoubleHashMap();
+        assertThat(map.get(1L, -1.0)).isEqualTo(-1.0);
+
+        map.put(1L, 10.0);
+        map.put(0L, 5.0);
+        map.put(Long.MIN_VALUE, 7.0);
+        map.put(1L, 12.0);
+
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(1L, -1.0)).isEqualTo(12.0);
+        assertThat(map.get(0L, -1.0)).isEqualTo(5.0);
+        assertThat(map.get(Long.MIN_VALUE, -1.0)).isEqualTo(7.0);
+        assertThat(map.get(2L, -1.0)).isEqualTo(-1.0);
+    }
+
+    @Test
+    @DisplayName("배열을 여러 번 늘려도 HashMap과 같은 결과를 낸다")
+    void matchesHashMapAcrossRehash() {
+        Random random = new Random(7);
+        LongDoubleHashMap map = new LongDoubleHashMap();
+        Map<Long, Double> expected = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            long key = random.nextInt(20_000);
+            double value = random.nextDouble();
+            map.put(key, value);
+            expected.put(key, value);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 20_000; key++) {
+            assertThat(map.get(key, -1.0)).isEqualTo(expected.getOrDefault(key, -1.0));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.aidea.backend.domain.search.autocomplete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteTrieTest {
+
+    private final AutocompleteTrie trie = AutocompleteTrie.build(List.of(
+            new AutocompleteTrie.Entry("러닝 크루", SuggestionType.MEETING, 10),
+            new AutocompleteTrie.Entry("런닝맨", SuggestionType.MEETING, 5),
+            new AutocompleteTrie.Entry("닭갈비 번개", SuggestionType.MEETING, 7),
+            new AutocompleteTrie.Entry("달고나", SuggestionType.MEETING, 2),
+            new AutocompleteTrie.Entry("등산", SuggestionType.INTEREST, 3),
+            new AutocompleteTrie.Entry("과학", SuggestionType.INTEREST, 4)));
+
+    @Test
+    @DisplayName("입력 중인 음절도 자모 단위로 완성된 단어의 접두어가 된다")
+    void matchesSyllableInProgress() {
+        // "런" = ㄹㅓㄴ → "러닝"(ㄹㅓㄴㅣㅇ)과 "런닝"(ㄹㅓㄴㄴㅣㅇ) 모두의 접두어
+        assertThat(texts(trie.complete("런", 10))).containsExactly("러닝 크루", "런닝맨");
+        // "닭" = ㄷㅏㄹㄱ → "달고나"(ㄷㅏㄹㄱㅗ...)도 접두어가 일치
+        assertThat(texts(trie.complete("닭", 10))).containsExactly("닭갈비 번개", "달고나");
+        assertThat(texts(trie.complete("닭가", 10))).containsExactly("닭갈비 번개");
+    }
+
+    @Test
+    @DisplayName("초성만 입력하거나 겹모음을 쪼개 입력해도 찾는다")
+    void matchesJamoPrefix() {
+        assertThat(texts(trie.complete("ㄷ", 10))).containsExactly("닭갈비 번개", "등산", "달고나");
+        assertThat(texts(trie.complete("고", 10))).containsExactly("과학"); // "과" = ㄱㅗㅏ
+        assertThat(texts(trie.complete("ㄱㅗ", 10))).containsExactly("과학");
+        assertThat(texts(trie.complete("ㄱㅘ", 10))).containsExactly("과학");
+    }
+
+    @Test
+    @DisplayName("인기도 순으로 limit개만 반환하고 공백은 무시한다")
+    void returnsTopByScore() {
+        List<AutocompleteTrie.Suggestion> suggestions = trie.complete("ㄹ", 1);
+
+        assertThat(suggestions).containsExactly(
+                new AutocompleteTrie.Suggestion("러닝 크루", SuggestionType.MEETING, 10));
+        assertThat(texts(trie.complete("러닝크", 10))).containsExactly("러닝 크루");
+        assertThat(trie.complete("", 10)).isEmpty();
+        assertThat(trie.complete("없는", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자모 분해는 겹받침/겹모음을 입력 순서대로 나누고 한글이 아닌 문자는 소문자로 바꾼다")
+    void decomposesHangul() {
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("ㄺ")).isEqualTo("ㄹㄱ");
+        assertThat(HangulJamo.decompose("Run 클럽")).isEqualTo("runㅋㅡㄹㄹㅓㅂ");
+    }
+
+    private static List<String> texts(List<AutocompleteTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(AutocompleteTrie.Suggestion::text).toList();
+    }
+}
@@ -0,0 +1,94 @@
+package com.aidea.backend.domain.search.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BigramInvertedIndexTest {
+
+    private static final int RECRUITING = 0;
+    private static final int COMPLETED = 1;
+
+    @Test
+    @DisplayName("검색어의 바이그램을 모두 포함한 문서를 단어 중간에 있어도 찾는다")
+    void findsEveryDocumentContainingAllBigrams() {
+        BigramInvertedIndex index = new BigramInvertedIndex();
+        put(index, 1L, RECRUITING, "한강 러닝 크루", "저녁마다 함께 뛰어요");
+        put(index, 2L, RECRUITING, "주말러닝모임", "초보 환영");
+        put(index, 3L, RECRUITING, "런닝맨 보드게임", null);
+        put(index, 4L, RECRUITING, "등산 모임", "러닝 후 뒤풀이는 없어요");
+
+        SearchHits hits = search(index, "러닝");
+
+        assertThat(hits.total()).isEqualTo(3);
+        assertThat(hits.ids()).containsExactlyInAnyOrder(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("여러 단어 검색어는 모든 단어를 포함한 문서만 찾고, 대소문자를 구분하지 않는다")
+    void intersectsWordsCaseInsensitively() {
+        BigramInvertedIndex index = new BigramInvertedIndex();
+        put(index, 1L, RECRUITING, "Spring Boot 스터디", null);
+        put(index, 2L, RECRUITING, "spring 독서 스터디", null);
+        put(index, 3L, RECRUITING, "Boot camp", null);
+
+        assertThat(search(index, "SPRING 스터디").ids()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(search(index, "boot 스터디").ids()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 그 글자가 들어 있는 모든 문서를 찾는다")
+    void findsSingleCharacterQuery() {
+        BigramInvertedIndex index = new BigramInvertedIndex();
+        put(index, 1L, RECRUITING, "축구 동호회", null);
+        put(index, 2L, RECRUITING, "풋살과 축구", null);
+        put(index, 3L, RECRUITING, "농구", null);
+        put(index, 4L, RECRUITING, "축", null);
+
+        assertThat(search(index, "축").ids()).containsExactlyInAnyOrder(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 문서는 이전 내용으로 찾지 않고, 속성 필터를 적용한다")
+    void reflectsUpdatesRemovalsAndFilter() {
+        BigramInvertedIndex index = new BigramInvertedIndex();
+        put(index, 1L, RECRUITING, "보드게임 모임", null);
+        put(index, 2L, RECRUITING, "보드게임 카페", null);
+        put(index, 3L, COMPLETED, "보드게임 번개", null);
+        put(index, 1L, RECRUITING, "독서 모임", null);
+        index.remove(2L);
+
+        assertThat(search(index, "보드게임").ids()).containsExactly(3L);
+        assertThat(index.search(BigramTokenizer.queryTerms("보드게임"), attribute -> attribute == RECRUITING, 0, 10)
+                .total()).isZero();
+        assertThat(search(index, "독서").ids()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("삭제가 쌓여 번호를 다시 매긴 뒤에도 남은 문서를 모두 찾는다")
+    void keepsRecallAfterCompaction() {
+        BigramInvertedIndex index = new BigramInvertedIndex();
+        for (long id = 1; id <= 3000; id++) {
+            put(index, id, RECRUITING, (id % 2 == 0 ? "러닝 크루 " : "등산 모임 ") + id, null);
+        }
+        for (long id = 1; id <= 2000; id++) {
+            index.remove(id);
+        }
+
+        SearchHits hits = index.search(
+                BigramTokenizer.queryTerms("러닝"), attribute -> true, 0, 1000);
+
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(hits.total()).isEqualTo(500);
+        assertThat(hits.ids()).hasSize(500).allMatch(id -> id > 2000 && id % 2 == 0);
+    }
+
+    private static void put(BigramInvertedIndex index, long id, int attribute, String title, String description) {
+        index.put(id, attribute, BigramTokenizer.documentTerms(title, description));
+    }
+
+    private static SearchHits search(BigramInvertedIndex index, String query) {
+        return index.search(BigramTokenizer.queryTerms(query), attribute -> true, 0, 100);
+    }
+}
@@ -0,0 +1,90 @@
+package com.aidea.backend.domain.user.service;
+
+import com.aidea.backend.domain.user.cache.UserInterestMaskCache;
+import com.aidea.backend.domain.user.dto.UserUpdateDto;
+import com.aidea.backend.domain.user.entity.User;
+import com.aidea.backend.domain.user.event.UserProfileChangedEvent;
+import com.aidea.backend.global.secret.jwt.JwtTokenProvider;
+import com.aidea.backend.global.secret.jwt.RefreshTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로필 변경 이벤트 테스트
+ * - 모임 상세 캐시에 담기는 생성자 정보(닉네임/프로필 이미지)가 바뀔 때만 이벤트가 발행되는지 확인합니다
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserService.class)
+@RecordApplicationEvents
+class UserServiceProfileEventTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @MockitoBean
+    private UserInterestMaskCache userInterestMaskCache;
+
+    @Test
+    @DisplayName("닉네임이나 프로필 이미지가 바뀌면 프로필 변경 이벤트를 발행한다")
+    void publishesWhenPublicProfileChanges() {
+        User user = saveUser("host");
+        UserUpdateDto dto = new UserUpdateDto();
+        dto.setNickname("new-host");
+
+        userService.updateMyProfile(user.getEmail(), dto);
+
+        assertThat(events.stream(UserProfileChangedEvent.class))
+                .extracting(UserProfileChangedEvent::getUserId)
+                .containsExactly(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("생성자 정보와 무관한 필드만 바뀌면 발행하지 않는다")
+    void skipsWhenOnlyPrivateFieldsChange() {
+        User user = saveUser("host");
+        UserUpdateDto dto = new UserUpdateDto();
+        dto.setNickname("host");
+        dto.setPhoneNumber("010-0000-0000");
+
+        userService.updateMyProfile(user.getEmail(), dto);
+
+        assertThat(events.stream(UserProfileChangedEvent.class)).isEmpty();
+    }
+
+    private User saveUser(String name) {
+        return entityManager.persist(User.builder()
+                .email(name + "@aidea.test")
+                .password("password")
+                .nickname(name)
+                .build());
+    }
+}
@@ -0,0 +1,129 @@
+package com.aidea.backend.domain.user.service;
+
+import com.aidea.backend.domain.meeting.entity.Meeting;
+import com.aidea.backend.domain.meeting.entity.MeetingMember;
+import com.aidea.backend.domain.meeting.entity.enums.MeetingCategory;
+import com.aidea.backend.domain.meeting.entity.enums.Region;
+import com.aidea.backend.domain.user.cache.UserInterestMaskCache;
+import com.aidea.backend.domain.user.entity.User;
+import com.aidea.backend.global.secret.jwt.JwtTokenProvider;
+import com.aidea.backend.global.secret.jwt.RefreshTokenRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내 모임 목록 조회 쿼리 수 테스트
+ * - 참가/개설한 모임 수와 무관하게 SQL 문 수가 일정한지 Hibernate 통계로 확인합니다
+ *   (모임마다 생성자가 다르므로 생성자를 지연 로딩하면 모임 수만큼 쿼리가 늘어남)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserService.class)
+class UserServiceQueryCountTest {
+
+    // 사용자 조회 1 + 모임/생성자 fetch join 1
+    private static final long EXPECTED_STATEMENTS = 2;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @MockitoBean
+    private UserInterestMaskCache userInterestMaskCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 10 })
+    @DisplayName("참가한 모임 목록 조회는 모임 수와 무관하게 쿼리 수가 일정하다")
+    void getMyMeetingsRunsConstantStatements(int meetingCount) {
+        User member = saveUser("member");
+        for (int i = 0; i < meetingCount; i++) {
+            Meeting meeting = saveMeeting(saveUser("host" + i));
+            entityManager.persist(MeetingMember.createMember(meeting, member, false));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        assertThat(userService.getMyMeetings(member.getEmail(), "active")).hasSize(meetingCount);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+
+        entityManager.clear();
+        statistics.clear();
+        assertThat(userService.getMyMeetings(member.getEmail(), null)).hasSize(meetingCount);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 10 })
+    @DisplayName("개설한 모임 목록 조회는 모임 수와 무관하게 쿼리 수가 일정하다")
+    void getMyHostingMeetingsRunsConstantStatements(int meetingCount) {
+        User host = saveUser("host");
+        for (int i = 0; i < meetingCount; i++) {
+            saveMeeting(host);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        assertThat(userService.getMyHostingMeetings(host.getEmail())).hasSize(meetingCount);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+    }
+
+    private User saveUser(String name) {
+        return entityManager.persist(User.builder()
+                .email(name + "@aidea.test")
+                .password("password")
+                .nickname(name)
+                .build());
+    }
+
+    private Meeting saveMeeting(User creator) {
+        return entityManager.persist(Meeting.builder()
+                .title(creator.getNickname() + "의 모임")
+                .category(MeetingCategory.HOBBY_LEISURE)
+                .region(Region.SEOUL_GANGNAM)
+                .maxMembers(10)
+                .meetingDate(LocalDateTime.now().plusDays(7))
+                .creator(creator)
+                .build());
+    }
+}
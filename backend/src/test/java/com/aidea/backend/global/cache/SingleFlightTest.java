@@ -0,0 +1,114 @@
+package com.aidea.backend.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("같은 키의 동시 호출은 loader를 한 번만 실행하고 결과를 함께 받는다")
+    void sharesInFlightLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentLinkedQueue<String> results = new ConcurrentLinkedQueue<>();
+
+        List<Thread> callers = start(() -> results.add(singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        })));
+        awaitAllWaiting(callers); // 리더는 release, 나머지는 리더의 결과를 기다리는 중
+        release.countDown();
+        join(callers);
+
+        assertThat(loads).hasValue(1);
+        assertThat(results).hasSize(CALLERS).containsOnly("value");
+    }
+
+    @Test
+    @DisplayName("loader 예외는 리더와 대기 중인 호출 모두에게 전파되고, 다음 호출은 다시 실행한다")
+    void propagatesFailureToWaiters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        List<Thread> callers = start(() -> {
+            try {
+                singleFlight.execute("key", () -> {
+                    await(release);
+                    throw new IllegalStateException("load failed");
+                });
+            } catch (IllegalStateException e) {
+                failures.add(e);
+            }
+        });
+        awaitAllWaiting(callers);
+        release.countDown();
+        join(callers);
+
+        assertThat(failures).hasSize(CALLERS).allMatch(e -> "load failed".equals(e.getMessage()));
+        assertThat(singleFlight.execute("key", () -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    @DisplayName("결과는 보관하지 않고, 키가 다르면 따로 실행한다")
+    void doesNotCacheOrShareAcrossKeys() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("a", () -> "a" + loads.incrementAndGet());
+        singleFlight.execute("a", () -> "a" + loads.incrementAndGet());
+        String b = singleFlight.execute("b", () -> "b" + loads.incrementAndGet());
+
+        assertThat(loads).hasValue(3);
+        assertThat(b).isEqualTo("b3");
+        assertThatThrownBy(() -> singleFlight.execute("c", () -> {
+            throw new IllegalArgumentException("bad key");
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Thread> start(Runnable task) {
+        List<Thread> threads = new ArrayList<>(CALLERS);
+        for (int i = 0; i < CALLERS; i++) {
+            Thread thread = new Thread(task);
+            thread.start();
+            threads.add(thread);
+        }
+        return threads;
+    }
+
+    private static void awaitAllWaiting(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (threads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING)) {
+            assertThat(System.nanoTime()).as("callers did not block in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void join(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.aidea.backend.global.geo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class HierarchicalGeoGridTest {
+
+    private static final int MAX_ZOOM = 18;
+
+    private HierarchicalGeoGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new HierarchicalGeoGrid(MAX_ZOOM);
+        // 서울 도심 3곳 (약 1km 간격), 부산 2곳
+        grid.put(1L, 37.5665, 126.9780);
+        grid.put(2L, 37.5700, 126.9900);
+        grid.put(3L, 37.5600, 126.9650);
+        grid.put(4L, 35.1796, 129.0756);
+        grid.put(5L, 35.1600, 129.0500);
+    }
+
+    @Test
+    @DisplayName("모든 줌에서 클러스터 개수 합은 좌표 수와 같고, 줌이 커질수록 클러스터가 나뉜다")
+    void countsPerZoom() {
+        int previousClusters = 0;
+        for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            List<HierarchicalGeoGrid.Cluster> clusters = korea(zoom, Integer.MAX_VALUE);
+
+            assertThat(clusters.stream().mapToInt(HierarchicalGeoGrid.Cluster::count).sum())
+                    .as("zoom %d", zoom).isEqualTo(5);
+            assertThat(clusters.size()).as("zoom %d", zoom).isGreaterThanOrEqualTo(previousClusters);
+            previousClusters = clusters.size();
+        }
+        assertThat(korea(0, Integer.MAX_VALUE)).hasSize(1);
+        assertThat(korea(MAX_ZOOM, Integer.MAX_VALUE)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("도시 단위 줌에서는 서울과 부산이 각각 하나의 클러스터로 묶이고 중심은 좌표 평균이다")
+    void clustersByCity() {
+        List<HierarchicalGeoGrid.Cluster> clusters = korea(7, Integer.MAX_VALUE).stream()
+                .sorted(Comparator.comparingInt(HierarchicalGeoGrid.Cluster::count).reversed())
+                .toList();
+
+        assertThat(clusters).hasSize(2);
+        HierarchicalGeoGrid.Cluster seoul = clusters.get(0);
+        assertThat(seoul.count()).isEqualTo(3);
+        assertThat(seoul.id()).isNull();
+        assertThat(seoul.latitude()).isCloseTo((37.5665 + 37.5700 + 37.5600) / 3, offset(1e-9));
+        assertThat(clusters.get(1).count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 줌에서는 좌표마다 ID가 있는 단일 클러스터가 된다")
+    void singlePointsCarryId() {
+        List<Long> ids = korea(MAX_ZOOM, Integer.MAX_VALUE).stream()
+                .map(HierarchicalGeoGrid.Cluster::id)
+                .toList();
+
+        assertThat(ids).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("영역을 덮는 셀이 maxCells를 넘으면 낮은 줌으로 집계한다")
+    void capsCellCount() {
+        List<HierarchicalGeoGrid.Cluster> clusters = korea(MAX_ZOOM, 16);
+
+        assertThat(clusters.size()).isLessThanOrEqualTo(2);
+        assertThat(clusters.stream().mapToInt(HierarchicalGeoGrid.Cluster::count).sum()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("이동/제거하면 모든 줌의 집계가 함께 바뀐다")
+    void updatesOnMoveAndRemove() {
+        grid.put(3L, 35.1700, 129.0600); // 서울 → 부산
+        grid.remove(1L);
+        grid.remove(99L); // 없는 ID는 무시
+
+        assertThat(grid.size()).isEqualTo(4);
+        List<HierarchicalGeoGrid.Cluster> clusters = korea(7, Integer.MAX_VALUE).stream()
+                .sorted(Comparator.comparingInt(HierarchicalGeoGrid.Cluster::count).reversed())
+                .toList();
+        assertThat(clusters).extracting(HierarchicalGeoGrid.Cluster::count).containsExactly(3, 1);
+        assertThat(clusters.get(1).id()).isEqualTo(2L);
+    }
+
+    private List<HierarchicalGeoGrid.Cluster> korea(int zoom, int maxCells) {
+        return grid.clusters(33.0, 124.0, 39.0, 132.0, zoom, maxCells);
+    }
+}
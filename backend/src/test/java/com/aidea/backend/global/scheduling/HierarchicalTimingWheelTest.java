@@ -0,0 +1,78 @@
+package com.aidea.backend.global.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1000L;
+    private static final int SIZE = 4; // 1단 4초, 2단 16초, 3단 64초
+
+    @Test
+    @DisplayName("상위 휠에 둔 항목은 하위 휠로 내려오며 마감 tick에 정확히 만료된다")
+    void cascadesThroughOverflowWheels() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, SIZE, 0L);
+        assertThat(wheel.add("first-level", 3_000L)).isTrue();
+        assertThat(wheel.add("second-level", 9_000L)).isTrue();
+        assertThat(wheel.add("third-level", 50_000L)).isTrue();
+
+        List<String> expired = new ArrayList<>();
+        List<Long> expiredAt = new ArrayList<>();
+        for (long now = TICK; now <= 60_000L; now += TICK) {
+            long time = now;
+            wheel.advance(now, item -> {
+                expired.add(item);
+                expiredAt.add(time);
+            });
+        }
+
+        assertThat(expired).containsExactly("first-level", "second-level", "third-level");
+        assertThat(expiredAt).containsExactly(3_000L, 9_000L, 50_000L);
+    }
+
+    @Test
+    @DisplayName("여러 tick을 한 번에 건너뛰어도 그 사이 마감된 항목을 모두 만료시키고, 이후 마감은 남긴다")
+    void advancesOverManyTicksAtOnce() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(TICK, SIZE, 0L);
+        for (int second = 1; second <= 100; second++) {
+            wheel.add(second, second * TICK);
+        }
+
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(70_000L, expired::add);
+        assertThat(expired).hasSize(70).allMatch(second -> second <= 70);
+
+        expired.clear();
+        wheel.advance(100_000L, expired::add);
+        assertThat(expired).hasSize(30).allMatch(second -> second > 70);
+    }
+
+    @Test
+    @DisplayName("마감 시각은 tick 단위로 올림되어 마감 전에 만료되지 않는다")
+    void neverExpiresEarly() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, SIZE, 0L);
+        wheel.add("item", 1_500L);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(1_999L, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(2_000L, expired::add);
+        assertThat(expired).containsExactly("item");
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감은 등록하지 않는다")
+    void rejectsPastDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, SIZE, 10_000L);
+
+        assertThat(wheel.add("past", 9_000L)).isFalse();
+        assertThat(wheel.add("current-tick", 10_000L)).isFalse();
+        assertThat(wheel.add("next-tick", 10_001L)).isTrue();
+    }
+}